@@ -0,0 +1,40 @@
+package com.socialmedia.feed.benchmark;
+
+import com.socialmedia.feed.client.GraphClient;
+import com.socialmedia.feed.client.PostClient;
+import com.socialmedia.feed.client.UserClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class BenchmarkClientsConfig {
+
+    @Bean
+    public SyntheticGraph syntheticGraph(@Value("${bench.graph.users:50000}") int users,
+                                         @Value("${bench.graph.distribution:POWER_LAW}") FollowerDistribution distribution,
+                                         @Value("${bench.graph.mean-followers:50}") double meanFollowers,
+                                         @Value("${bench.graph.alpha:2.1}") double alpha,
+                                         @Value("${bench.graph.seed:42}") long seed) {
+        return SyntheticGraph.generate(users, distribution, meanFollowers, alpha, seed);
+    }
+
+    @Bean
+    @Primary
+    public GraphClient stubGraphClient(SyntheticGraph syntheticGraph) {
+        return new StubGraphClient(syntheticGraph);
+    }
+
+    @Bean
+    @Primary
+    public PostClient stubPostClient(SyntheticGraph syntheticGraph) {
+        return new StubPostClient(syntheticGraph);
+    }
+
+    @Bean
+    @Primary
+    public UserClient stubUserClient() {
+        return new StubUserClient();
+    }
+}
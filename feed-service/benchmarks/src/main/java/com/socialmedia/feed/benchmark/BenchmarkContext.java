@@ -0,0 +1,80 @@
+package com.socialmedia.feed.benchmark;
+
+import com.socialmedia.FeedserviceApplication;
+import com.socialmedia.feed.service.FeedActivityTracker;
+import com.socialmedia.feed.service.FeedService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j
+public final class BenchmarkContext implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final LocalRedis localRedis;
+    @Getter
+    private final FeedWorkload workload;
+    @Getter
+    private final RedisOpsCounter opsCounter;
+
+    private BenchmarkContext(ConfigurableApplicationContext context, LocalRedis localRedis) {
+        this.context = context;
+        this.localRedis = localRedis;
+        this.workload = new FeedWorkload(context.getBean(SyntheticGraph.class), context.getBean(FeedService.class),
+                context.getBean(FeedActivityTracker.class));
+        this.opsCounter = new RedisOpsCounter(context.getBean(StringRedisTemplate.class));
+    }
+
+    public static BenchmarkContext start(String... args) {
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("spring.main.web-application-type", "none");
+        defaults.put("spring.main.banner-mode", "off");
+        defaults.put("spring.kafka.listener.auto-startup", "false");
+        defaults.put("spring.data.redis.database", "15");
+        defaults.put("logging.level.root", "WARN");
+        defaults.put("logging.level.com.socialmedia.feed.benchmark", "INFO");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(FeedserviceApplication.class, BenchmarkClientsConfig.class)
+                .properties(defaults)
+                .run(args);
+        Environment environment = context.getEnvironment();
+        LocalRedis localRedis = null;
+        try {
+            if (environment.getProperty("bench.redis.launch", Boolean.class, false)) {
+                localRedis = LocalRedis.launch(environment.getProperty("bench.redis.executable", "redis-server"),
+                        environment.getProperty("spring.data.redis.port", Integer.class, 6379));
+            }
+            if (environment.getProperty("bench.redis.flush", Boolean.class, true)) {
+                context.getBean(StringRedisTemplate.class).execute((RedisCallback<Object>) connection -> {
+                    connection.serverCommands().flushDb();
+                    return null;
+                });
+                log.info("Flushed Redis database {}", environment.getProperty("spring.data.redis.database"));
+            }
+            return new BenchmarkContext(context, localRedis);
+        } catch (RuntimeException ex) {
+            context.close();
+            if (localRedis != null) {
+                localRedis.close();
+            }
+            throw ex;
+        }
+    }
+
+    public Environment getEnvironment() {
+        return context.getEnvironment();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        if (localRedis != null) {
+            localRedis.close();
+        }
+    }
+}
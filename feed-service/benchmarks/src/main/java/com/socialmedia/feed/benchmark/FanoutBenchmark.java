@@ -0,0 +1,84 @@
+package com.socialmedia.feed.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Slf4j
+public class FanoutBenchmark {
+
+    @Param({"POWER_LAW", "UNIFORM"})
+    public String distribution;
+
+    @Param("50000")
+    public int users;
+
+    @Param("50")
+    public int meanFollowers;
+
+    @Param("1.0")
+    public double activeFraction;
+
+    @Param({"1", "50"})
+    public int eventsPerBatch;
+
+    private BenchmarkContext context;
+    private FeedWorkload workload;
+    private final AtomicLong events = new AtomicLong();
+    private long opsBefore;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start(
+                "--bench.graph.distribution=" + distribution,
+                "--bench.graph.users=" + users,
+                "--bench.graph.mean-followers=" + meanFollowers);
+        workload = context.getWorkload();
+        workload.activate(activeFraction, new Random(7L));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        events.set(0L);
+        opsBefore = context.getOpsCounter().commandsProcessed();
+    }
+
+    @Benchmark
+    public void handlePostsCreated() {
+        workload.getFeedService().handlePostsCreated(workload.nextEvents(eventsPerBatch, ThreadLocalRandom.current()));
+        events.addAndGet(eventsPerBatch);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportRedisOps() {
+        long ops = context.getOpsCounter().since(opsBefore);
+        log.info("fan-out {} batch={}: {} events, {} Redis ops, {} ops/event", distribution, eventsPerBatch, events.get(), ops,
+                String.format("%.1f", events.get() == 0 ? 0.0 : (double) ops / events.get()));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+}
@@ -0,0 +1,111 @@
+package com.socialmedia.feed.benchmark;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Slf4j
+public final class FeedLoadDriver {
+
+    private FeedLoadDriver() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        try (BenchmarkContext context = BenchmarkContext.start(args)) {
+            Environment environment = context.getEnvironment();
+            FeedWorkload workload = context.getWorkload();
+            SyntheticGraph graph = workload.getGraph();
+            long events = environment.getProperty("bench.driver.events", Long.class, 100_000L);
+            int batchSize = Math.max(environment.getProperty("bench.driver.batch-size", Integer.class, 50), 1);
+            int publishers = Math.max(environment.getProperty("bench.driver.publishers", Integer.class, 3), 1);
+            long reads = environment.getProperty("bench.driver.reads", Long.class, 50_000L);
+            int readers = Math.max(environment.getProperty("bench.driver.readers", Integer.class, 8), 1);
+            int pageSize = environment.getProperty("bench.driver.page-size", Integer.class, 20);
+            boolean ranked = environment.getProperty("bench.driver.ranked", Boolean.class, false);
+            double activeFraction = environment.getProperty("bench.driver.active-fraction", Double.class, 1.0);
+
+            workload.activate(activeFraction, new Random(environment.getProperty("bench.graph.seed", Long.class, 42L)));
+            List<PhaseResult> results = new ArrayList<>();
+            results.add(runPhase(context, "fan-out", publishers, events / batchSize, batchSize,
+                    () -> workload.getFeedService().handlePostsCreated(workload.nextEvents(batchSize, ThreadLocalRandom.current()))));
+            results.add(runPhase(context, "read", readers, reads, 1,
+                    () -> workload.getFeedService().getFeed(graph.randomUser(ThreadLocalRandom.current()), 0, pageSize, ranked)));
+
+            List<String> lines = new ArrayList<>();
+            lines.add(String.format("graph: %s users=%d edges=%d maxFollowers=%d", environment.getProperty("bench.graph.distribution", "POWER_LAW"),
+                    graph.getUsers(), graph.getEdges(), graph.maxFollowers()));
+            lines.add(String.format("%-8s %10s %8s %12s %10s %10s %12s", "phase", "units", "failed", "units/s", "p50 ms", "p99 ms", "redis/unit"));
+            for (PhaseResult result : results) {
+                lines.add(result.format());
+            }
+            log.info("Feed load report (fan-out unit = event, batch of {}; read unit = page of {}, ranked={}):\n{}",
+                    batchSize, pageSize, ranked, String.join("\n", lines));
+        }
+        System.exit(0);
+    }
+
+    private static PhaseResult runPhase(BenchmarkContext context, String name, int threads, long calls, int unitsPerCall,
+                                        Runnable call) throws InterruptedException {
+        Timer timer = Timer.builder("bench." + name)
+                .publishPercentiles(0.5, 0.99)
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .distributionStatisticBufferLength(1)
+                .register(new SimpleMeterRegistry());
+        AtomicLong remaining = new AtomicLong(calls);
+        AtomicLong failed = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("bench-" + name + "-"));
+        long opsBefore = context.getOpsCounter().commandsProcessed();
+        long started = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    try {
+                        timer.record(call);
+                    } catch (RuntimeException ex) {
+                        if (failed.getAndIncrement() == 0) {
+                            log.warn("Phase {} call failed", name, ex);
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.DAYS);
+        long elapsedNanos = System.nanoTime() - started;
+        long ops = context.getOpsCounter().since(opsBefore);
+        return new PhaseResult(name, calls * unitsPerCall, failed.get() * unitsPerCall, elapsedNanos, ops, timer.takeSnapshot());
+    }
+
+    private record PhaseResult(String name, long units, long failedUnits, long elapsedNanos, long redisOps, HistogramSnapshot latency) {
+
+        String format() {
+            double seconds = elapsedNanos / 1e9;
+            long succeeded = units - failedUnits;
+            return String.format("%-8s %10d %8d %12.1f %10.2f %10.2f %12.1f", name, units, failedUnits,
+                    seconds > 0 ? succeeded / seconds : 0.0, percentile(0.5), percentile(0.99),
+                    succeeded > 0 ? (double) redisOps / succeeded : 0.0);
+        }
+
+        private double percentile(double percentile) {
+            for (ValueAtPercentile value : latency.percentileValues()) {
+                if (value.percentile() == percentile) {
+                    return value.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.socialmedia.feed.benchmark;
+
+import com.socialmedia.feed.dto.FeedItemResponse;
+import com.socialmedia.feed.dto.PagedResponse;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Slf4j
+public class FeedReadBenchmark {
+
+    @Param({"POWER_LAW", "UNIFORM"})
+    public String distribution;
+
+    @Param("50000")
+    public int users;
+
+    @Param("50")
+    public int meanFollowers;
+
+    @Param("20000")
+    public int seedPosts;
+
+    @Param("20")
+    public int pageSize;
+
+    @Param({"false", "true"})
+    public boolean ranked;
+
+    @Param("false")
+    public boolean cache;
+
+    private BenchmarkContext context;
+    private FeedWorkload workload;
+    private final AtomicLong reads = new AtomicLong();
+    private long opsBefore;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start(
+                "--bench.graph.distribution=" + distribution,
+                "--bench.graph.users=" + users,
+                "--bench.graph.mean-followers=" + meanFollowers,
+                "--feed.cache.enabled=" + cache);
+        workload = context.getWorkload();
+        Random random = new Random(7L);
+        workload.activate(1.0, random);
+        workload.seedPosts(seedPosts, 100, random);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        reads.set(0L);
+        opsBefore = context.getOpsCounter().commandsProcessed();
+    }
+
+    @Benchmark
+    public PagedResponse<FeedItemResponse> getFeed() {
+        long userId = workload.getGraph().randomUser(ThreadLocalRandom.current());
+        reads.incrementAndGet();
+        return workload.getFeedService().getFeed(userId, 0, pageSize, ranked);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportRedisOps() {
+        long ops = context.getOpsCounter().since(opsBefore);
+        log.info("read {} ranked={}: {} pages, {} Redis ops, {} ops/page", distribution, ranked, reads.get(), ops,
+                String.format("%.1f", reads.get() == 0 ? 0.0 : (double) ops / reads.get()));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+}
@@ -0,0 +1,62 @@
+package com.socialmedia.feed.benchmark;
+
+import com.socialmedia.feed.kafka.PostCreatedEvent;
+import com.socialmedia.feed.service.FeedActivityTracker;
+import com.socialmedia.feed.service.FeedService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class FeedWorkload {
+
+    @Getter
+    private final SyntheticGraph graph;
+    @Getter
+    private final FeedService feedService;
+    private final FeedActivityTracker activityTracker;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public FeedWorkload(SyntheticGraph graph, FeedService feedService, FeedActivityTracker activityTracker) {
+        this.graph = graph;
+        this.feedService = feedService;
+        this.activityTracker = activityTracker;
+    }
+
+    public void activate(double fraction, Random random) {
+        if (!activityTracker.isEnabled()) {
+            return;
+        }
+        long started = System.nanoTime();
+        List<Long> active = new ArrayList<>();
+        List<Long> dormant = new ArrayList<>();
+        LongStream.rangeClosed(1, graph.getUsers()).forEach(userId -> (random.nextDouble() < fraction ? active : dormant).add(userId));
+        active.parallelStream().forEach(activityTracker::touch);
+        activityTracker.seed(dormant, 0L);
+        int activated = active.size();
+        log.info("Marked {} of {} users active in {} ms", activated, graph.getUsers(), (System.nanoTime() - started) / 1_000_000L);
+    }
+
+    public void seedPosts(int count, int batchSize, Random random) {
+        long started = System.nanoTime();
+        for (int published = 0; published < count; published += batchSize) {
+            feedService.handlePostsCreated(nextEvents(Math.min(batchSize, count - published), random));
+        }
+        log.info("Seeded {} posts in {} ms", count, (System.nanoTime() - started) / 1_000_000L);
+    }
+
+    public List<PostCreatedEvent> nextEvents(int count, Random random) {
+        List<PostCreatedEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long authorId = graph.randomUser(random);
+            long postId = graph.postId(sequence.incrementAndGet(), authorId);
+            events.add(new PostCreatedEvent(postId, authorId, "post " + postId, "bench://media/" + postId, List.of(), Instant.now()));
+        }
+        return events;
+    }
+}
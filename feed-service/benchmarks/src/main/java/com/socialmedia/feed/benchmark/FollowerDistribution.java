@@ -0,0 +1,27 @@
+package com.socialmedia.feed.benchmark;
+
+import java.util.Random;
+
+public enum FollowerDistribution {
+
+    UNIFORM {
+        @Override
+        int sample(Random random, double meanFollowers, double alpha) {
+            return random.nextInt((int) Math.round(2 * meanFollowers) + 1);
+        }
+    },
+
+    POWER_LAW {
+        @Override
+        int sample(Random random, double meanFollowers, double alpha) {
+            if (alpha <= 2.0) {
+                throw new IllegalArgumentException("Power-law alpha must be greater than 2 for a finite mean");
+            }
+            double minimum = meanFollowers * (alpha - 2.0) / (alpha - 1.0);
+            double sample = minimum * Math.pow(1.0 - random.nextDouble(), -1.0 / (alpha - 1.0));
+            return (int) Math.min(Integer.MAX_VALUE, Math.round(sample));
+        }
+    };
+
+    abstract int sample(Random random, double meanFollowers, double alpha);
+}
@@ -0,0 +1,68 @@
+package com.socialmedia.feed.benchmark;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public final class LocalRedis implements AutoCloseable {
+
+    private static final long STARTUP_TIMEOUT_MS = 10_000L;
+
+    private final Process process;
+
+    private LocalRedis(Process process) {
+        this.process = process;
+    }
+
+    public static LocalRedis launch(String executable, int port) {
+        Process process;
+        try {
+            process = new ProcessBuilder(executable, "--port", String.valueOf(port), "--save", "", "--appendonly", "no")
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to launch " + executable, ex);
+        }
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(executable + " exited with code " + process.exitValue());
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), 200);
+                log.info("Launched {} on port {}", executable, port);
+                return new LocalRedis(process);
+            } catch (IOException ex) {
+                sleep(50L);
+            }
+        }
+        process.destroyForcibly();
+        throw new IllegalStateException(executable + " did not accept connections on port " + port);
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Redis", ex);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.socialmedia.feed.benchmark;
+
+import java.util.Properties;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+public class RedisOpsCounter {
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisOpsCounter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public long commandsProcessed() {
+        Properties stats = redisTemplate.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info("stats"));
+        if (stats == null || stats.getProperty("total_commands_processed") == null) {
+            throw new IllegalStateException("Redis INFO stats did not report total_commands_processed");
+        }
+        return Long.parseLong(stats.getProperty("total_commands_processed").trim());
+    }
+
+    public long since(long previous) {
+        return Math.max(commandsProcessed() - previous - 1L, 0L);
+    }
+}
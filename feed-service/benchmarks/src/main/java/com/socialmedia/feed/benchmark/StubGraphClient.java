@@ -0,0 +1,53 @@
+package com.socialmedia.feed.benchmark;
+
+import com.socialmedia.feed.client.GraphClient;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import org.springframework.web.client.RestTemplate;
+
+public class StubGraphClient extends GraphClient {
+
+    private final SyntheticGraph graph;
+
+    public StubGraphClient(SyntheticGraph graph) {
+        super(new RestTemplate());
+        this.graph = graph;
+    }
+
+    @Override
+    public List<Long> fetchFollowerIds(Long userId) {
+        return Arrays.stream(graph.followersOf(userId)).boxed().toList();
+    }
+
+    @Override
+    public long streamFollowerIds(Long userId, long afterId, int chunkSize, Consumer<List<Long>> consumer) {
+        long[] followers = graph.followersOf(userId);
+        int from = Arrays.binarySearch(followers, afterId);
+        from = from >= 0 ? from + 1 : -from - 1;
+        List<Long> chunk = new ArrayList<>(chunkSize);
+        for (int i = from; i < followers.length; i++) {
+            chunk.add(followers[i]);
+            if (chunk.size() == chunkSize) {
+                consumer.accept(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+        return followers.length - from;
+    }
+
+    @Override
+    public OptionalLong fetchFollowerCount(Long userId) {
+        return OptionalLong.of(graph.followersOf(userId).length);
+    }
+
+    @Override
+    public List<Long> fetchFollowingIds(Long userId, int limit) {
+        return Arrays.stream(graph.followingOf(userId)).limit(limit).boxed().toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.socialmedia.feed.benchmark;
+
+import com.socialmedia.feed.client.PostClient;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.web.client.RestTemplate;
+
+public class StubPostClient extends PostClient {
+
+    private final SyntheticGraph graph;
+
+    public StubPostClient(SyntheticGraph graph) {
+        super(new RestTemplate());
+        this.graph = graph;
+    }
+
+    @Override
+    public PostResponse fetchPost(Long postId) {
+        PostResponse post = new PostResponse();
+        post.setId(postId);
+        post.setUserId(graph.authorOf(postId));
+        post.setCaption("post " + postId);
+        post.setMediaUrl("bench://media/" + postId);
+        return post;
+    }
+
+    @Override
+    public List<PostResponse> fetchPosts(Collection<Long> postIds) {
+        return postIds.stream().map(this::fetchPost).toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.socialmedia.feed.benchmark;
+
+import com.socialmedia.feed.client.UserClient;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.web.client.RestTemplate;
+
+public class StubUserClient extends UserClient {
+
+    public StubUserClient() {
+        super(new RestTemplate());
+    }
+
+    @Override
+    public UserProfileResponse fetchUser(Long userId) {
+        UserProfileResponse user = new UserProfileResponse();
+        user.setId(userId);
+        user.setUsername("user" + userId);
+        return user;
+    }
+
+    @Override
+    public Map<Long, String> fetchUsers(Set<Long> userIds) {
+        Map<Long, String> usernames = new HashMap<>();
+        for (Long userId : userIds) {
+            usernames.put(userId, "user" + userId);
+        }
+        return usernames;
+    }
+}
@@ -0,0 +1,95 @@
+package com.socialmedia.feed.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SyntheticGraph {
+
+    @Getter
+    private final int users;
+    @Getter
+    private final long edges;
+    private final long[][] followers;
+    private final long[][] following;
+
+    private SyntheticGraph(int users, long[][] followers, long[][] following, long edges) {
+        this.users = users;
+        this.followers = followers;
+        this.following = following;
+        this.edges = edges;
+    }
+
+    public static SyntheticGraph generate(int users, FollowerDistribution distribution, double meanFollowers, double alpha, long seed) {
+        if (users < 2) {
+            throw new IllegalArgumentException("A synthetic graph needs at least 2 users");
+        }
+        Random random = new Random(seed);
+        long[][] followers = new long[users][];
+        int[] followingCounts = new int[users];
+        long edges = 0L;
+        for (int author = 1; author <= users; author++) {
+            int wanted = Math.min(distribution.sample(random, meanFollowers, alpha), users - 1);
+            long[] sampled = new long[wanted];
+            for (int i = 0; i < wanted; i++) {
+                sampled[i] = 1L + random.nextInt(users);
+            }
+            Arrays.sort(sampled);
+            int distinct = 0;
+            for (int i = 0; i < wanted; i++) {
+                if (sampled[i] != author && (distinct == 0 || sampled[distinct - 1] != sampled[i])) {
+                    sampled[distinct++] = sampled[i];
+                }
+            }
+            followers[author - 1] = Arrays.copyOf(sampled, distinct);
+            for (long follower : followers[author - 1]) {
+                followingCounts[(int) follower - 1]++;
+            }
+            edges += distinct;
+        }
+        long[][] following = new long[users][];
+        int[] filled = new int[users];
+        for (int i = 0; i < users; i++) {
+            following[i] = new long[followingCounts[i]];
+        }
+        for (int author = 1; author <= users; author++) {
+            for (long follower : followers[author - 1]) {
+                int index = (int) follower - 1;
+                following[index][filled[index]++] = author;
+            }
+        }
+        SyntheticGraph graph = new SyntheticGraph(users, followers, following, edges);
+        log.info("Generated {} graph users={} edges={} maxFollowers={}", distribution, users, edges, graph.maxFollowers());
+        return graph;
+    }
+
+    public long[] followersOf(long userId) {
+        return contains(userId) ? followers[(int) userId - 1] : new long[0];
+    }
+
+    public long[] followingOf(long userId) {
+        return contains(userId) ? following[(int) userId - 1] : new long[0];
+    }
+
+    public long maxFollowers() {
+        return Arrays.stream(followers).mapToLong(ids -> ids.length).max().orElse(0L);
+    }
+
+    public long randomUser(Random random) {
+        return 1L + random.nextInt(users);
+    }
+
+    public long postId(long sequence, long authorId) {
+        return sequence * users + (authorId - 1);
+    }
+
+    public long authorOf(long postId) {
+        return postId % users + 1;
+    }
+
+    private boolean contains(long userId) {
+        return userId >= 1 && userId <= users;
+    }
+}
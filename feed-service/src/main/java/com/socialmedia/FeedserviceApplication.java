@@ -2,10 +2,15 @@ package com.socialmedia;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Profiles;
 
 @SpringBootApplication
 public class FeedserviceApplication {
     public static void main(String[] args) {
-        SpringApplication.run(FeedserviceApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(FeedserviceApplication.class, args);
+        if (context.getEnvironment().acceptsProfiles(Profiles.of("memory-report"))) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
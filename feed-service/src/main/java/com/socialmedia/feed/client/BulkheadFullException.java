@@ -0,0 +1,10 @@
+package com.socialmedia.feed.client;
+
+import org.springframework.web.client.RestClientException;
+
+public class BulkheadFullException extends RestClientException {
+
+    public BulkheadFullException(String service) {
+        super("Too many concurrent calls to " + service);
+    }
+}
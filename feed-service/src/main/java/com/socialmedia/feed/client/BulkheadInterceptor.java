@@ -0,0 +1,100 @@
+package com.socialmedia.feed.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+public class BulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String service;
+    private final Semaphore permits;
+    private final long maxWaitMs;
+    private final Counter rejected;
+
+    public BulkheadInterceptor(String service, int maxConcurrentCalls, long maxWaitMs, MeterRegistry meterRegistry) {
+        this.service = service;
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.maxWaitMs = maxWaitMs;
+        Gauge.builder("feed.http.bulkhead.in-flight", permits, p -> maxConcurrentCalls - p.availablePermits())
+                .description("Calls currently in flight to a downstream service")
+                .tag("client", service)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("feed.http.bulkhead.rejected")
+                .description("Calls rejected because the downstream bulkhead was full")
+                .tag("client", service)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        try {
+            if (!permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new BulkheadFullException(service);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException(service);
+        }
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+        return new PermitReleasingResponse(response);
+    }
+
+    private class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.socialmedia.feed.client;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
+import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
@@ -14,35 +22,121 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class GraphClient {
 
+    private static final int FOLLOWING_PAGE_SIZE = 100;
+    private static final int FOLLOWER_ID_CHUNK_SIZE = 1000;
+    private static final long FOLLOWER_IDS_END_MARKER = -1L;
+
     private final RestTemplate restTemplate;
 
     @Value("${services.graph.base-url}")
     private String graphBaseUrl;
 
+    public GraphClient(@Qualifier("graphRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
     public List<Long> fetchFollowerIds(Long userId) {
-        String url = graphBaseUrl + "/api/graph/" + userId + "/followers?page=0&size=1000";
+        List<Long> followerIds = new ArrayList<>();
+        try {
+            streamFollowerIds(userId, 0L, FOLLOWER_ID_CHUNK_SIZE, followerIds::addAll);
+        } catch (Exception ex) {
+            log.error("Failed to fetch followers for userId={}", userId, ex);
+            return Collections.emptyList();
+        }
+        return followerIds;
+    }
+
+    public long streamFollowerIds(Long userId, long afterId, int chunkSize, Consumer<List<Long>> consumer) {
+        String url = graphBaseUrl + "/internal/graph/" + userId + "/follower-ids?after=" + afterId;
+        Long streamed = restTemplate.execute(url, HttpMethod.GET, null, response -> {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(response.getBody()));
+            List<Long> chunk = new ArrayList<>(chunkSize);
+            long count = 0L;
+            while (true) {
+                long followerId = readLong(in, userId, count);
+                if (followerId == FOLLOWER_IDS_END_MARKER) {
+                    long announced = readLong(in, userId, count);
+                    if (announced != count) {
+                        throw new IOException("Follower id stream for userId=" + userId + " announced " + announced
+                                + " ids but carried " + count);
+                    }
+                    break;
+                }
+                chunk.add(followerId);
+                count++;
+                if (chunk.size() == chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+            return count;
+        });
+        log.debug("Streamed {} follower ids for userId={} after={}", streamed, userId, afterId);
+        return streamed != null ? streamed : 0L;
+    }
+
+    private long readLong(DataInputStream in, Long userId, long count) throws IOException {
+        try {
+            return in.readLong();
+        } catch (EOFException ex) {
+            throw new EOFException("Follower id stream for userId=" + userId + " ended after " + count + " ids without an end marker");
+        }
+    }
+
+    public OptionalLong fetchFollowerCount(Long userId) {
+        String url = graphBaseUrl + "/api/graph/" + userId + "/followers?page=0&size=1";
         try {
             ResponseEntity<ApiResponse<PagedResponse<UserResponse>>> response = restTemplate.exchange(url, HttpMethod.GET,
                     null, new ParameterizedTypeReference<ApiResponse<PagedResponse<UserResponse>>>() {
                     }
             );
             ApiResponse<PagedResponse<UserResponse>> body = response.getBody();
-            if (body == null || body.getData() == null || body.getData().getContent() == null) {
-                return Collections.emptyList();
+            if (body == null || body.getData() == null) {
+                return OptionalLong.empty();
             }
-            return body.getData().getContent().stream()
-                    .map(UserResponse::getUserId)
-                    .toList();
+            return OptionalLong.of(body.getData().getTotalElements());
         } catch (Exception ex) {
-            log.error("Failed to fetch followers for userId={}", userId, ex);
-            return Collections.emptyList();
+            log.error("Failed to fetch follower count for userId={}", userId, ex);
+            return OptionalLong.empty();
         }
     }
 
+    public List<Long> fetchFollowingIds(Long userId) {
+        return fetchFollowingIds(userId, Integer.MAX_VALUE);
+    }
+
+    public List<Long> fetchFollowingIds(Long userId, int limit) {
+        List<Long> followingIds = new ArrayList<>();
+        int page = 0;
+        int totalPages;
+        do {
+            String url = graphBaseUrl + "/api/graph/" + userId + "/following?page=" + page + "&size=" + FOLLOWING_PAGE_SIZE;
+            try {
+                ResponseEntity<ApiResponse<PagedResponse<UserResponse>>> response = restTemplate.exchange(url, HttpMethod.GET,
+                        null, new ParameterizedTypeReference<ApiResponse<PagedResponse<UserResponse>>>() {
+                        }
+                );
+                ApiResponse<PagedResponse<UserResponse>> body = response.getBody();
+                if (body == null || body.getData() == null || body.getData().getContent() == null) {
+                    break;
+                }
+                body.getData().getContent().forEach(user -> followingIds.add(user.getUserId()));
+                totalPages = body.getData().getTotalPages();
+            } catch (Exception ex) {
+                log.error("Failed to fetch following for userId={} page={}", userId, page, ex);
+                break;
+            }
+            page++;
+        } while (page < totalPages && followingIds.size() < limit);
+        return followingIds.size() > limit ? new ArrayList<>(followingIds.subList(0, limit)) : followingIds;
+    }
+
     @Data
     private static class ApiResponse<T> {
         private boolean success;
@@ -52,9 +146,12 @@ public class GraphClient {
     @Data
     private static class PagedResponse<T> {
         private List<T> content;
+        private long totalElements;
+        private int totalPages;
     }
 
     @Data
+    @NoArgsConstructor
     @AllArgsConstructor
     private static class UserResponse {
         private Long userId;
@@ -1,9 +1,12 @@
 package com.socialmedia.feed.client;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
@@ -12,7 +15,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class PostClient {
 
@@ -21,6 +23,10 @@ public class PostClient {
     @Value("${services.post.base-url}")
     private String postBaseUrl;
 
+    public PostClient(@Qualifier("postRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
     public PostResponse fetchPost(Long postId) {
         String url = postBaseUrl + "/api/posts/" + postId;
         try {
@@ -39,6 +45,28 @@ public class PostClient {
         }
     }
 
+    public List<PostResponse> fetchPosts(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String ids = postIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        String url = postBaseUrl + "/api/posts/batch?ids=" + ids;
+        try {
+            ResponseEntity<ApiResponse<List<PostResponse>>> response = restTemplate.exchange(url, HttpMethod.GET,
+                    null, new ParameterizedTypeReference<ApiResponse<List<PostResponse>>>() {
+                    }
+            );
+            ApiResponse<List<PostResponse>> body = response.getBody();
+            if (body == null || body.getData() == null) {
+                return Collections.emptyList();
+            }
+            return body.getData();
+        } catch (Exception ex) {
+            log.error("Failed to fetch posts in batch count={}", postIds.size(), ex);
+            return Collections.emptyList();
+        }
+    }
+
     @Data
     private static class ApiResponse<T> {
         private boolean success;
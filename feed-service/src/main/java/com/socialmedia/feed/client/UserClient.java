@@ -1,25 +1,40 @@
 package com.socialmedia.feed.client;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
+import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class UserClient {
 
+    private static final int USER_BATCH_SIZE = 100;
+
     private final RestTemplate restTemplate;
 
     @Value("${services.user.base-url}")
     private String userBaseUrl;
 
+    public UserClient(@Qualifier("userRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
     public UserProfileResponse fetchUser(Long userId) {
         String url = userBaseUrl + "/api/users/" + userId;
         try {
@@ -38,6 +53,42 @@ public class UserClient {
         }
     }
 
+    public Map<Long, String> fetchUsers(Set<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> ids = new ArrayList<>(userIds);
+        Map<Long, String> usernameById = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += USER_BATCH_SIZE) {
+            usernameById.putAll(fetchUserBatch(new LinkedHashSet<>(ids.subList(from, Math.min(from + USER_BATCH_SIZE, ids.size())))));
+        }
+        return usernameById;
+    }
+
+    private Map<Long, String> fetchUserBatch(Set<Long> userIds) {
+        String url = userBaseUrl + "/api/users/batch";
+        try {
+            ResponseEntity<ApiResponse<List<UserSummaryResponse>>> response = restTemplate.exchange(url, HttpMethod.POST,
+                    new HttpEntity<>(new UserBatchRequest(userIds)), new ParameterizedTypeReference<ApiResponse<List<UserSummaryResponse>>>() {
+                    }
+            );
+            ApiResponse<List<UserSummaryResponse>> body = response.getBody();
+            if (body == null || body.getData() == null) {
+                return Collections.emptyMap();
+            }
+            Map<Long, String> usernameById = new HashMap<>();
+            for (UserSummaryResponse summary : body.getData()) {
+                if (summary.getId() != null && summary.getUsername() != null) {
+                    usernameById.put(summary.getId(), summary.getUsername());
+                }
+            }
+            return usernameById;
+        } catch (Exception ex) {
+            log.error("Failed to fetch user summaries count={}", userIds.size(), ex);
+            return Collections.emptyMap();
+        }
+    }
+
     @Data
     private static class ApiResponse<T> {
         private boolean success;
@@ -49,5 +100,17 @@ public class UserClient {
         private Long id;
         private String username;
     }
-}
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class UserBatchRequest {
+        private Set<Long> ids;
+    }
+
+    @Data
+    private static class UserSummaryResponse {
+        private Long id;
+        private String username;
+    }
+}
@@ -1,21 +1,72 @@
 package com.socialmedia.feed.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class AppConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate graphRestTemplate(ServiceHttpClientFactory httpClientFactory) {
+        return httpClientFactory.create("graph");
+    }
+
+    @Bean
+    public RestTemplate postRestTemplate(ServiceHttpClientFactory httpClientFactory) {
+        return httpClientFactory.create("post");
+    }
+
+    @Bean
+    public RestTemplate userRestTemplate(ServiceHttpClientFactory httpClientFactory) {
+        return httpClientFactory.create("user");
     }
 
     @Bean
     public StringRedisTemplate stringRedisTemplate(org.springframework.data.redis.connection.RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
     }
-}
 
+    @Bean
+    public RedisTemplate<byte[], byte[]> feedRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<byte[], byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.byteArray());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(RedisSerializer.byteArray());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor feedHydrationExecutor(@Value("${feed.hydration.executor.core-size:16}") int coreSize,
+                                                        @Value("${feed.hydration.executor.max-size:64}") int maxSize,
+                                                        @Value("${feed.hydration.executor.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("feed-hydration-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor feedRebuildExecutor(@Value("${feed.activity.rebuild-executor.core-size:2}") int coreSize,
+                                                      @Value("${feed.activity.rebuild-executor.max-size:4}") int maxSize,
+                                                      @Value("${feed.activity.rebuild-executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("feed-rebuild-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,101 @@
+package com.socialmedia.feed.config;
+
+import com.socialmedia.feed.client.BulkheadInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceHttpClientFactory {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final RestTemplateBuilder restTemplateBuilder;
+
+    public RestTemplate create(String service) {
+        int maxConnections = setting(service, "max-connections", Integer.class, 50);
+        Duration connectTimeout = Duration.ofMillis(setting(service, "connect-timeout-ms", Long.class, 500L));
+        Duration readTimeout = Duration.ofMillis(setting(service, "read-timeout-ms", Long.class, 2000L));
+        long poolTimeoutMs = setting(service, "pool-timeout-ms", Long.class, 200L);
+        int maxConcurrentCalls = setting(service, "max-concurrent-calls", Integer.class, 100);
+        boolean http2 = setting(service, "http2", Boolean.class, false);
+        ClientHttpRequestFactory requestFactory = http2
+                ? jdkRequestFactory(connectTimeout, readTimeout)
+                : pooledRequestFactory(service, maxConnections, connectTimeout, readTimeout, poolTimeoutMs);
+        log.info("HTTP client for {}: http2={}, maxConnections={}, connectTimeout={}, readTimeout={}, maxConcurrentCalls={}",
+                service, http2, maxConnections, connectTimeout, readTimeout, maxConcurrentCalls);
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(new BulkheadInterceptor(service, maxConcurrentCalls, poolTimeoutMs, meterRegistry))
+                .build();
+    }
+
+    private ClientHttpRequestFactory pooledRequestFactory(String service, int maxConnections, Duration connectTimeout,
+                                                          Duration readTimeout, long poolTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(maxConnections)
+                .setMaxConnTotal(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+        registerPoolGauge("feed.http.pool.leased", service, connectionManager, m -> m.getTotalStats().getLeased());
+        registerPoolGauge("feed.http.pool.available", service, connectionManager, m -> m.getTotalStats().getAvailable());
+        registerPoolGauge("feed.http.pool.pending", service, connectionManager, m -> m.getTotalStats().getPending());
+        registerPoolGauge("feed.http.pool.max", service, connectionManager, m -> m.getTotalStats().getMax());
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private ClientHttpRequestFactory jdkRequestFactory(Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+
+    private void registerPoolGauge(String name, String service, PoolingHttpClientConnectionManager connectionManager,
+                                   ToDoubleFunction<PoolingHttpClientConnectionManager> value) {
+        Gauge.builder(name, connectionManager, value)
+                .tag("client", service)
+                .register(meterRegistry);
+    }
+
+    private <T> T setting(String service, String name, Class<T> type, T defaultValue) {
+        T shared = environment.getProperty("feed.http." + name, type, defaultValue);
+        return environment.getProperty("services." + service + ".http." + name, type, shared);
+    }
+}
@@ -1,9 +1,12 @@
 package com.socialmedia.feed.controller;
 
 import com.socialmedia.feed.dto.ApiResponse;
+import com.socialmedia.feed.dto.CursorPagedResponse;
 import com.socialmedia.feed.dto.FeedItemResponse;
+import com.socialmedia.feed.dto.InteractionRequest;
 import com.socialmedia.feed.dto.PagedResponse;
 import com.socialmedia.feed.service.FeedService;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -29,10 +34,11 @@ public class FeedController {
     public ResponseEntity<ApiResponse<PagedResponse<FeedItemResponse>>> getFeed(
             @RequestHeader("X-User-Id") Long currentUserId,
             @RequestParam(value = "page", defaultValue = "0") @Min(0) int page,
-            @RequestParam(value = "size", defaultValue = "20") @Min(1) int size
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) int size,
+            @RequestParam(value = "ranked", defaultValue = "false") boolean ranked
     ) {
-        log.info("Fetching feed for userId={} page={} size={}", currentUserId, page, size);
-        PagedResponse<FeedItemResponse> feed = feedService.getFeed(currentUserId, page, size);
+        log.info("Fetching feed for userId={} page={} size={} ranked={}", currentUserId, page, size, ranked);
+        PagedResponse<FeedItemResponse> feed = feedService.getFeed(currentUserId, page, size, ranked);
         ApiResponse<PagedResponse<FeedItemResponse>> body = ApiResponse.<PagedResponse<FeedItemResponse>>builder()
                 .success(true)
                 .data(feed)
@@ -41,5 +47,38 @@ public class FeedController {
                 .build();
         return ResponseEntity.ok(body);
     }
-}
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPagedResponse<FeedItemResponse>>> scrollFeed(
+            @RequestHeader("X-User-Id") Long currentUserId,
+            @RequestParam(value = "before", required = false) String before,
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) int size,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        log.info("Scrolling feed for userId={} before={} size={}", currentUserId, before, size);
+        CursorPagedResponse<FeedItemResponse> feed = feedService.getFeedBefore(currentUserId, before, size, includeTotal);
+        ApiResponse<CursorPagedResponse<FeedItemResponse>> body = ApiResponse.<CursorPagedResponse<FeedItemResponse>>builder()
+                .success(true)
+                .data(feed)
+                .message("Feed fetched")
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.ok(body);
+    }
+
+    @PostMapping("/interactions")
+    public ResponseEntity<ApiResponse<Void>> recordInteraction(
+            @RequestHeader("X-User-Id") Long currentUserId,
+            @Valid @RequestBody InteractionRequest request
+    ) {
+        log.debug("Recording interaction viewer={} author={} postId={}", currentUserId, request.getAuthorId(), request.getPostId());
+        feedService.recordInteraction(currentUserId, request.getAuthorId());
+        ApiResponse<Void> body = ApiResponse.<Void>builder()
+                .success(true)
+                .data(null)
+                .message("Interaction recorded")
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.ok(body);
+    }
+}
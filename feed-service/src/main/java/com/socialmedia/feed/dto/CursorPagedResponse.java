@@ -0,0 +1,16 @@
+package com.socialmedia.feed.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorPagedResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private Long totalElements;
+}
@@ -0,0 +1,15 @@
+package com.socialmedia.feed.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InteractionRequest {
+    @NotNull
+    private Long authorId;
+    private Long postId;
+}
@@ -0,0 +1,30 @@
+package com.socialmedia.feed.kafka;
+
+import com.socialmedia.feed.service.FollowFeedUpdater;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowEventConsumer {
+
+    private final FollowFeedUpdater followFeedUpdater;
+
+    @KafkaListener(topics = "${kafka.topics.follow-events:follow_events}", groupId = "feed-service-group",
+            properties = "spring.json.value.default.type=com.socialmedia.feed.kafka.FollowEvent")
+    public void onFollowEvent(FollowEvent event) {
+        if (event == null || event.getType() == null || event.getFollowerId() == null || event.getFolloweeId() == null) {
+            log.warn("Ignoring incomplete follow event {}", event);
+            return;
+        }
+        log.info("Feed-service received {} event follower={} followee={}", event.getType(), event.getFollowerId(), event.getFolloweeId());
+        if (event.getType() == FollowEventType.FOLLOW) {
+            followFeedUpdater.backfill(event.getFollowerId(), event.getFolloweeId());
+        } else {
+            followFeedUpdater.prune(event.getFollowerId(), event.getFolloweeId());
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.socialmedia.feed.kafka;
+
+public enum FollowEventType {
+    FOLLOW,
+    UNFOLLOW
+}
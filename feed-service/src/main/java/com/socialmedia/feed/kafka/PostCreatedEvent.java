@@ -13,6 +13,7 @@ public class PostCreatedEvent {
     private Long postId;
     private Long userId;
     private String caption;
+    private String mediaUrl;
     private List<String> hashtags;
     private Instant createdAt;
 }
@@ -0,0 +1,22 @@
+package com.socialmedia.feed.kafka;
+
+import com.socialmedia.feed.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostDeletedEventConsumer {
+
+    private final FeedService feedService;
+
+    @KafkaListener(topics = "${kafka.topics.post-deleted:post_deleted}", groupId = "feed-service-group",
+            properties = "spring.json.value.default.type=com.socialmedia.feed.kafka.PostDeletedEvent")
+    public void onPostDeleted(PostDeletedEvent event) {
+        log.info("Feed-service received PostDeletedEvent for postId={} userId={}", event.getPostId(), event.getUserId());
+        feedService.handlePostDeleted(event);
+    }
+}
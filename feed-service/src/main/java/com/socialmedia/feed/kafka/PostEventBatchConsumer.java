@@ -0,0 +1,28 @@
+package com.socialmedia.feed.kafka;
+
+import com.socialmedia.feed.service.FanoutDispatcher;
+import com.socialmedia.feed.service.FeedService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "feed.kafka.batch", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class PostEventBatchConsumer {
+
+    private final FeedService feedService;
+
+    @KafkaListener(id = FanoutDispatcher.POST_LISTENER_ID, topics = "${kafka.topics.post-created:post_created}", groupId = "feed-service-group",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void onPostsCreated(List<PostCreatedEvent> events, Acknowledgment acknowledgment) {
+        log.info("Feed-service received batch of {} PostCreatedEvents", events.size());
+        feedService.handlePostsCreated(events);
+        acknowledgment.acknowledge();
+    }
+}
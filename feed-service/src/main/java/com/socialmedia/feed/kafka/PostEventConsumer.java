@@ -1,13 +1,16 @@
 package com.socialmedia.feed.kafka;
 
+import com.socialmedia.feed.service.FanoutDispatcher;
 import com.socialmedia.feed.service.FeedService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(prefix = "feed.kafka.batch", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class PostEventConsumer {
@@ -17,7 +20,7 @@ public class PostEventConsumer {
     @Value("${kafka.topics.post-created:post_created}")
     private String topic;
 
-    @KafkaListener(topics = "${kafka.topics.post-created:post_created}", groupId = "feed-service-group")
+    @KafkaListener(id = FanoutDispatcher.POST_LISTENER_ID, topics = "${kafka.topics.post-created:post_created}", groupId = "feed-service-group")
     public void onPostCreated(PostCreatedEvent event) {
         log.info("Feed-service received PostCreatedEvent for postId={} userId={}", event.getPostId(), event.getUserId());
         feedService.handlePostCreated(event);
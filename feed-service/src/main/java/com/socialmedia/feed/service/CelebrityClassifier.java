@@ -0,0 +1,74 @@
+package com.socialmedia.feed.service;
+
+import com.socialmedia.feed.client.GraphClient;
+import java.time.Duration;
+import java.util.OptionalLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class CelebrityClassifier {
+
+    public enum Placement {
+        PUSH,
+        PULL,
+        DEMOTED
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final GraphClient graphClient;
+    private final long followerThreshold;
+    private final long demoteBelow;
+    private final Duration countTtl;
+
+    public CelebrityClassifier(StringRedisTemplate redisTemplate, GraphClient graphClient,
+                               @Value("${feed.hybrid.follower-threshold:10000}") long followerThreshold,
+                               @Value("${feed.hybrid.demote-below:9000}") long demoteBelow,
+                               @Value("${feed.hybrid.follower-count-ttl-seconds:600}") long countTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.graphClient = graphClient;
+        this.followerThreshold = followerThreshold;
+        this.demoteBelow = Math.min(demoteBelow, followerThreshold);
+        this.countTtl = Duration.ofSeconds(countTtlSeconds);
+    }
+
+    public Placement classify(Long authorId) {
+        String member = String.valueOf(authorId);
+        boolean celebrity = Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(FeedKeys.CELEBRITIES, member));
+        OptionalLong followers = followerCount(authorId);
+        if (followers.isEmpty()) {
+            log.warn("Follower count for authorId={} is unavailable, keeping it on the {} path", authorId, celebrity ? "pull" : "push");
+            return celebrity ? Placement.PULL : Placement.PUSH;
+        }
+        long count = followers.getAsLong();
+        if (count >= followerThreshold || (celebrity && count >= demoteBelow)) {
+            if (!celebrity) {
+                redisTemplate.opsForSet().add(FeedKeys.CELEBRITIES, member);
+                log.info("Promoted authorId={} to the pull path with {} followers", authorId, count);
+            }
+            return Placement.PULL;
+        }
+        if (celebrity) {
+            Long removed = redisTemplate.opsForSet().remove(FeedKeys.CELEBRITIES, member);
+            if (removed != null && removed > 0) {
+                log.info("Demoted authorId={} to the push path with {} followers", authorId, count);
+                return Placement.DEMOTED;
+            }
+        }
+        return Placement.PUSH;
+    }
+
+    private OptionalLong followerCount(Long authorId) {
+        String cacheKey = FeedKeys.followerCount(authorId);
+        String cached = redisTemplate.opsForValue().get(cacheKey);
+        if (cached != null) {
+            return OptionalLong.of(Long.parseLong(cached));
+        }
+        OptionalLong fetched = graphClient.fetchFollowerCount(authorId);
+        fetched.ifPresent(count -> redisTemplate.opsForValue().set(cacheKey, String.valueOf(count), countTtl));
+        return fetched;
+    }
+}
@@ -0,0 +1,211 @@
+package com.socialmedia.feed.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class FanoutDispatcher {
+
+    public static final String POST_LISTENER_ID = "feed-post-created";
+
+    private final FeedFanoutWriter fanoutWriter;
+    private final ObjectProvider<KafkaListenerEndpointRegistry> listenerRegistry;
+    private final List<ThreadPoolExecutor> lanes = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean paused = new AtomicBoolean();
+    private final Timer shardTimer;
+    private final Counter pauseCounter;
+    private final int resumeDepth;
+    private final long offerTimeoutMs;
+
+    public FanoutDispatcher(FeedFanoutWriter fanoutWriter, ObjectProvider<KafkaListenerEndpointRegistry> listenerRegistry,
+                            MeterRegistry meterRegistry,
+                            @Value("${feed.fanout.workers.lanes:8}") int laneCount,
+                            @Value("${feed.fanout.workers.queue-capacity:64}") int queueCapacity,
+                            @Value("${feed.fanout.workers.offer-timeout-ms:2000}") long offerTimeoutMs) {
+        this.fanoutWriter = fanoutWriter;
+        this.listenerRegistry = listenerRegistry;
+        int capacity = Math.max(queueCapacity, 1);
+        this.resumeDepth = capacity / 2;
+        this.offerTimeoutMs = offerTimeoutMs;
+        for (int i = 0; i < Math.max(laneCount, 1); i++) {
+            ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(capacity), new CustomizableThreadFactory("feed-fanout-" + i + "-"),
+                    this::applyBackpressure);
+            lanes.add(lane);
+        }
+        this.shardTimer = Timer.builder("feed.fanout.shard")
+                .description("Latency of one fan-out shard on a worker lane")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.pauseCounter = Counter.builder("feed.fanout.backpressure")
+                .description("Number of times the post consumer was paused because a fan-out lane was full")
+                .register(meterRegistry);
+        Gauge.builder("feed.fanout.queue.depth", this, FanoutDispatcher::queueDepth)
+                .description("Fan-out shards waiting on worker lanes")
+                .register(meterRegistry);
+        Gauge.builder("feed.fanout.in-flight", inFlight, AtomicInteger::get)
+                .description("Fan-out shards queued or running")
+                .register(meterRegistry);
+    }
+
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    private int laneOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) lanes.size());
+    }
+
+    private int queueDepth() {
+        return lanes.stream().mapToInt(lane -> lane.getQueue().size()).sum();
+    }
+
+    private CompletableFuture<Integer> submit(int lane, Map<Long, Set<StringRedisConnection.StringTuple>> shard) {
+        inFlight.incrementAndGet();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        try {
+            lanes.get(lane).execute(() -> {
+                try {
+                    future.complete(shardTimer.record(() -> fanoutWriter.addToFeeds(shard)));
+                } catch (RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                } finally {
+                    inFlight.decrementAndGet();
+                    resumeIfDrained();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.decrementAndGet();
+            throw ex;
+        }
+        return future;
+    }
+
+    private void applyBackpressure(Runnable task, ThreadPoolExecutor lane) {
+        if (lane.isShutdown()) {
+            throw new RejectedExecutionException("Fan-out lane is shut down");
+        }
+        if (paused.compareAndSet(false, true)) {
+            pauseCounter.increment();
+            postListener().ifPresent(MessageListenerContainer::pause);
+            log.warn("Fan-out lanes are full (depth={}), pausing post consumer", queueDepth());
+        }
+        try {
+            if (!lane.getQueue().offer(task, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("Fan-out lane stayed full for " + offerTimeoutMs + " ms");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a fan-out lane", ex);
+        }
+    }
+
+    private void resumeIfDrained() {
+        if (paused.get() && queueDepth() <= resumeDepth && paused.compareAndSet(true, false)) {
+            postListener().ifPresent(MessageListenerContainer::resume);
+            log.info("Fan-out lanes drained (depth={}), resuming post consumer", queueDepth());
+        }
+    }
+
+    private Optional<MessageListenerContainer> postListener() {
+        KafkaListenerEndpointRegistry registry = listenerRegistry.getIfAvailable();
+        return registry != null ? Optional.ofNullable(registry.getListenerContainer(POST_LISTENER_ID)) : Optional.empty();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor lane : lanes) {
+            try {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                lane.shutdownNow();
+            }
+        }
+    }
+
+    public class Batch {
+
+        private final List<Map<Long, Set<StringRedisConnection.StringTuple>>> pending = new ArrayList<>();
+        private final List<CompletableFuture<Integer>> submitted = new ArrayList<>();
+        private CompletableFuture<Void> checkpoints = CompletableFuture.completedFuture(null);
+        private int checkpointedUpTo;
+
+        private Batch() {
+            for (int i = 0; i < lanes.size(); i++) {
+                pending.add(new HashMap<>());
+            }
+        }
+
+        public void add(Long userId, Set<StringRedisConnection.StringTuple> entries) {
+            int lane = laneOf(userId);
+            Map<Long, Set<StringRedisConnection.StringTuple>> shard = pending.get(lane);
+            shard.computeIfAbsent(userId, id -> new LinkedHashSet<>()).addAll(entries);
+            if (shard.size() >= fanoutWriter.getChunkSize()) {
+                submitted.add(submit(lane, shard));
+                pending.set(lane, new HashMap<>());
+            }
+        }
+
+        public void checkpoint(Runnable onDurable) {
+            submitPending();
+            CompletableFuture<?>[] since = submitted.subList(checkpointedUpTo, submitted.size()).toArray(new CompletableFuture[0]);
+            checkpointedUpTo = submitted.size();
+            checkpoints = CompletableFuture.allOf(since).thenCombine(checkpoints, (ignored, previous) -> previous).thenRun(onDurable);
+        }
+
+        public long await() {
+            submitPending();
+            try {
+                CompletableFuture.allOf(submitted.toArray(new CompletableFuture[0])).join();
+                checkpoints.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+            return submitted.stream().mapToLong(CompletableFuture::join).sum();
+        }
+
+        private void submitPending() {
+            for (int lane = 0; lane < pending.size(); lane++) {
+                if (!pending.get(lane).isEmpty()) {
+                    submitted.add(submit(lane, pending.get(lane)));
+                    pending.set(lane, new HashMap<>());
+                }
+            }
+        }
+    }
+}
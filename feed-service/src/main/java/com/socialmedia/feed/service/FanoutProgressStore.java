@@ -0,0 +1,100 @@
+package com.socialmedia.feed.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class FanoutProgressStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long ttlSeconds;
+
+    public FanoutProgressStore(StringRedisTemplate redisTemplate,
+                               @Value("${feed.fanout.idempotency.enabled:false}") boolean enabled,
+                               @Value("${feed.fanout.idempotency.ttl-hours:48}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttlSeconds = Duration.ofHours(ttlHours).toSeconds();
+    }
+
+    public Set<Long> completed(Collection<Long> postIds) {
+        if (!enabled || postIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> ids = new ArrayList<>(postIds);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long postId : ids) {
+                stringConnection.exists(FeedKeys.fanoutDone(postId));
+            }
+            return null;
+        });
+        Set<Long> completed = new HashSet<>();
+        for (int i = 0; i < ids.size() && i < results.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                completed.add(ids.get(i));
+            }
+        }
+        return completed;
+    }
+
+    public long resumeAfter(Collection<Long> postIds) {
+        if (!enabled || postIds.isEmpty()) {
+            return 0L;
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(postIds.stream().map(FeedKeys::fanoutCheckpoint).toList());
+        if (values == null) {
+            return 0L;
+        }
+        long after = Long.MAX_VALUE;
+        for (String value : values) {
+            if (value == null) {
+                return 0L;
+            }
+            after = Math.min(after, Long.parseLong(value));
+        }
+        return after;
+    }
+
+    public void saveCheckpoint(Collection<Long> postIds, long lastFollowerId) {
+        if (!enabled) {
+            return;
+        }
+        String value = String.valueOf(lastFollowerId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long postId : postIds) {
+                stringConnection.setEx(FeedKeys.fanoutCheckpoint(postId), ttlSeconds, value);
+            }
+            return null;
+        });
+        log.debug("Checkpointed fan-out of posts {} after followerId={}", postIds, lastFollowerId);
+    }
+
+    public void markCompleted(Collection<Long> postIds) {
+        if (!enabled || postIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long postId : postIds) {
+                stringConnection.setNX(FeedKeys.fanoutDone(postId), "1");
+                stringConnection.expire(FeedKeys.fanoutDone(postId), ttlSeconds);
+                stringConnection.del(FeedKeys.fanoutCheckpoint(postId));
+            }
+            return null;
+        });
+    }
+}
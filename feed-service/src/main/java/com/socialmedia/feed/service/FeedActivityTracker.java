@@ -0,0 +1,86 @@
+package com.socialmedia.feed.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FeedActivityTracker {
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long inactiveAfterMillis;
+
+    public FeedActivityTracker(StringRedisTemplate redisTemplate,
+                               @Value("${feed.activity.enabled:false}") boolean enabled,
+                               @Value("${feed.activity.inactive-after-days:30}") long inactiveAfterDays) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.inactiveAfterMillis = Duration.ofDays(inactiveAfterDays).toMillis();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean touch(Long userId) {
+        if (!enabled) {
+            return false;
+        }
+        String member = String.valueOf(userId);
+        long now = System.currentTimeMillis();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zScore(FeedKeys.ACTIVE_USERS, member);
+            stringConnection.zAdd(FeedKeys.ACTIVE_USERS, now, member);
+            return null;
+        });
+        Object previous = results.isEmpty() ? null : results.get(0);
+        return previous instanceof Double lastSeen && lastSeen < now - inactiveAfterMillis;
+    }
+
+    public List<Long> filterActive(List<Long> userIds) {
+        if (!enabled || userIds.isEmpty()) {
+            return userIds;
+        }
+        Object[] members = userIds.stream().map(String::valueOf).toArray();
+        List<Double> lastSeen = redisTemplate.opsForZSet().score(FeedKeys.ACTIVE_USERS, members);
+        if (lastSeen == null) {
+            return userIds;
+        }
+        long cutoff = System.currentTimeMillis() - inactiveAfterMillis;
+        List<Long> active = new ArrayList<>(userIds.size());
+        List<Long> unseen = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            Double seen = i < lastSeen.size() ? lastSeen.get(i) : null;
+            if (seen == null) {
+                unseen.add(userIds.get(i));
+                active.add(userIds.get(i));
+            } else if (seen >= cutoff) {
+                active.add(userIds.get(i));
+            }
+        }
+        seed(unseen, System.currentTimeMillis());
+        return active;
+    }
+
+    public void seed(Collection<Long> userIds, long seenAtMillis) {
+        if (!enabled || userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long userId : userIds) {
+                stringConnection.zAdd(FeedKeys.ACTIVE_USERS, seenAtMillis, String.valueOf(userId), RedisZSetCommands.ZAddArgs.ifNotExists());
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.socialmedia.feed.service;
+
+public record FeedCursor(long score, String member) {
+
+    public static FeedCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int separator = value.indexOf(':');
+        if (separator <= 0 || separator == value.length() - 1) {
+            throw new IllegalArgumentException("Invalid feed cursor");
+        }
+        try {
+            long score = Long.parseLong(value.substring(0, separator));
+            long postId = Long.parseLong(value.substring(separator + 1));
+            return new FeedCursor(score, String.valueOf(postId));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid feed cursor");
+        }
+    }
+
+    public boolean isAfter(double entryScore, String entryMember, FeedMemberCodec memberCodec) {
+        if (entryScore != score) {
+            return entryScore < score;
+        }
+        return memberCodec.compare(entryMember, member) < 0;
+    }
+
+    @Override
+    public String toString() {
+        return score + ":" + member;
+    }
+}
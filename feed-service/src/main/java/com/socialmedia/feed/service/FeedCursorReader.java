@@ -0,0 +1,81 @@
+package com.socialmedia.feed.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FeedCursorReader {
+
+    private final RedisTemplate<byte[], byte[]> feedRedisTemplate;
+    private final FeedMemberCodec memberCodec;
+
+    public List<ZSetOperations.TypedTuple<String>> readBefore(List<String> keys, FeedCursor cursor, int limit) {
+        List<ZSetOperations.TypedTuple<String>> entries = new ArrayList<>();
+        for (String key : keys) {
+            entries.addAll(readBefore(key, cursor, limit));
+        }
+        entries.sort(memberCodec.newestFirst());
+        List<ZSetOperations.TypedTuple<String>> page = new ArrayList<>(limit);
+        Set<String> seen = new HashSet<>();
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            if (seen.add(entry.getValue())) {
+                page.add(entry);
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return page;
+    }
+
+    private List<ZSetOperations.TypedTuple<String>> readBefore(String key, FeedCursor cursor, int limit) {
+        ZSetOperations<byte[], byte[]> zset = feedRedisTemplate.opsForZSet();
+        byte[] rawKey = memberCodec.key(key);
+        double max = cursor != null ? cursor.score() : Double.POSITIVE_INFINITY;
+        int count = limit + 1;
+        List<ZSetOperations.TypedTuple<String>> accepted = new ArrayList<>(limit);
+        Set<String> seen = new HashSet<>();
+        long offset = 0L;
+        while (true) {
+            Set<ZSetOperations.TypedTuple<byte[]>> raw = zset.reverseRangeByScoreWithScores(rawKey, Double.NEGATIVE_INFINITY, max, offset, count);
+            if (raw == null || raw.isEmpty()) {
+                return accepted;
+            }
+            for (ZSetOperations.TypedTuple<String> entry : decode(raw)) {
+                if (entry.getScore() == null) {
+                    continue;
+                }
+                if (accepted.size() >= limit && entry.getScore() < accepted.get(limit - 1).getScore()) {
+                    return accepted;
+                }
+                if ((cursor == null || cursor.isAfter(entry.getScore(), entry.getValue(), memberCodec)) && seen.add(entry.getValue())) {
+                    accepted.add(entry);
+                }
+            }
+            if (raw.size() < count) {
+                return accepted;
+            }
+            offset += raw.size();
+        }
+    }
+
+    private List<ZSetOperations.TypedTuple<String>> decode(Set<ZSetOperations.TypedTuple<byte[]>> raw) {
+        if (raw == null) {
+            return List.of();
+        }
+        List<ZSetOperations.TypedTuple<String>> decoded = new ArrayList<>(raw.size());
+        for (ZSetOperations.TypedTuple<byte[]> entry : raw) {
+            if (entry.getValue() != null) {
+                decoded.add(ZSetOperations.TypedTuple.of(memberCodec.decode(entry.getValue()), entry.getScore()));
+            }
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,172 @@
+package com.socialmedia.feed.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class FeedFanoutWriter {
+
+    private final RedisTemplate<byte[], byte[]> feedRedisTemplate;
+    private final FeedMemberCodec memberCodec;
+    private final FeedRanker feedRanker;
+    private final HotFeedCache hotFeedCache;
+    private final Timer chunkTimer;
+    private final DistributionSummary cardinalitySummary;
+    private final int chunkSize;
+    private final long maxFeedLength;
+
+    public FeedFanoutWriter(RedisTemplate<byte[], byte[]> feedRedisTemplate, FeedMemberCodec memberCodec, FeedRanker feedRanker,
+                            HotFeedCache hotFeedCache, MeterRegistry meterRegistry,
+                            @Value("${feed.fanout.chunk-size:500}") int chunkSize,
+                            @Value("${feed.max-length:1000}") long maxFeedLength) {
+        this.feedRedisTemplate = feedRedisTemplate;
+        this.memberCodec = memberCodec;
+        this.feedRanker = feedRanker;
+        this.hotFeedCache = hotFeedCache;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxFeedLength = Math.max(maxFeedLength, 1L);
+        this.chunkTimer = Timer.builder("feed.fanout.chunk")
+                .description("Latency of one pipelined fan-out flush to Redis")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.cardinalitySummary = DistributionSummary.builder("feed.cardinality")
+                .description("Number of entries in a feed sorted set after a fan-out write")
+                .register(meterRegistry);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int addToFeeds(Collection<Long> userIds, String member, double score) {
+        Set<StringRedisConnection.StringTuple> entries = Set.of(new DefaultStringTuple(member, score));
+        return write(userIds, userId -> entries);
+    }
+
+    public int addToFeeds(Map<Long, Set<StringRedisConnection.StringTuple>> entriesByUser) {
+        return write(entriesByUser.keySet(), entriesByUser::get);
+    }
+
+    public void addToTimeline(Long authorId, Set<StringRedisConnection.StringTuple> entries) {
+        byte[] key = memberCodec.key(FeedKeys.timeline(authorId));
+        Set<Tuple> encoded = memberCodec.encode(entries);
+        feedRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(key, encoded);
+            connection.zSetCommands().zRemRange(key, 0, -(maxFeedLength + 1));
+            return null;
+        });
+    }
+
+    public Set<StringRedisConnection.StringTuple> readTimeline(Long authorId, int limit) {
+        Set<ZSetOperations.TypedTuple<byte[]>> raw = feedRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(memberCodec.key(FeedKeys.timeline(authorId)), 0, limit - 1L);
+        Set<StringRedisConnection.StringTuple> entries = new LinkedHashSet<>();
+        if (raw != null) {
+            for (ZSetOperations.TypedTuple<byte[]> entry : raw) {
+                if (entry.getValue() != null && entry.getScore() != null) {
+                    entries.add(new DefaultStringTuple(memberCodec.decode(entry.getValue()), entry.getScore()));
+                }
+            }
+        }
+        return entries;
+    }
+
+    public long removeFromFeeds(Collection<Long> userIds, String member) {
+        List<Long> chunk = new ArrayList<>(Math.min(chunkSize, userIds.size()));
+        long removed = 0L;
+        for (Long userId : userIds) {
+            chunk.add(userId);
+            if (chunk.size() == chunkSize) {
+                removed += retract(chunk, member);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            removed += retract(chunk, member);
+        }
+        return removed;
+    }
+
+    public void removeFromTimeline(Long authorId, String member) {
+        feedRedisTemplate.opsForZSet().remove(memberCodec.key(FeedKeys.timeline(authorId)), (Object[]) memberCodec.encodings(member));
+    }
+
+    private long retract(List<Long> userIds, String member) {
+        byte[][] encodings = memberCodec.encodings(member);
+        List<Object> results = feedRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.zSetCommands().zRem(memberCodec.key(FeedKeys.feed(userId)), encodings);
+                if (feedRanker.isEnabled()) {
+                    connection.zSetCommands().zRem(memberCodec.key(FeedKeys.rankedFeed(userId)), encodings);
+                }
+            }
+            return null;
+        });
+        hotFeedCache.invalidate(userIds);
+        return results.stream().filter(Long.class::isInstance).mapToLong(Long.class::cast).sum();
+    }
+
+    private int write(Collection<Long> userIds, Function<Long, Set<StringRedisConnection.StringTuple>> entriesForUser) {
+        List<Long> chunk = new ArrayList<>(Math.min(chunkSize, userIds.size()));
+        int written = 0;
+        for (Long userId : userIds) {
+            chunk.add(userId);
+            if (chunk.size() == chunkSize) {
+                written += flush(chunk, entriesForUser);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            written += flush(chunk, entriesForUser);
+        }
+        return written;
+    }
+
+    private int flush(List<Long> userIds, Function<Long, Set<StringRedisConnection.StringTuple>> entriesForUser) {
+        long start = System.nanoTime();
+        Map<Set<StringRedisConnection.StringTuple>, Set<Tuple>> encoded = new IdentityHashMap<>();
+        List<Object> results = feedRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                byte[] key = memberCodec.key(FeedKeys.feed(userId));
+                connection.zSetCommands().zAdd(key, encoded.computeIfAbsent(entriesForUser.apply(userId), memberCodec::encode));
+                connection.zSetCommands().zRemRange(key, 0, -(maxFeedLength + 1));
+                connection.zSetCommands().zCard(key);
+            }
+            return null;
+        });
+        long elapsed = System.nanoTime() - start;
+        hotFeedCache.invalidate(userIds);
+        chunkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        recordCardinalities(results);
+        log.debug("Flushed fan-out chunk of {} feeds in {} ms", userIds.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return userIds.size();
+    }
+
+    private void recordCardinalities(List<Object> results) {
+        for (int i = 2; i < results.size(); i += 3) {
+            if (results.get(i) instanceof Long cardinality) {
+                cardinalitySummary.record(cardinality);
+            }
+        }
+    }
+}
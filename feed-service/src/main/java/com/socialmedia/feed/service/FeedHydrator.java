@@ -0,0 +1,154 @@
+package com.socialmedia.feed.service;
+
+import com.socialmedia.feed.client.PostClient;
+import com.socialmedia.feed.client.UserClient;
+import com.socialmedia.feed.dto.FeedItemResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class FeedHydrator {
+
+    private final PostClient postClient;
+    private final UserClient userClient;
+    private final PostSummaryStore postSummaryStore;
+    private final Executor executor;
+
+    @Value("${feed.materialized.enabled:false}")
+    private boolean materializedEnabled;
+
+    @Value("${feed.hydration.page-deadline-ms:800}")
+    private long pageDeadlineMs;
+
+    @Value("${feed.hydration.chunk-size:25}")
+    private int chunkSize;
+
+    public FeedHydrator(PostClient postClient, UserClient userClient, PostSummaryStore postSummaryStore,
+                        @Qualifier("feedHydrationExecutor") Executor executor) {
+        this.postClient = postClient;
+        this.userClient = userClient;
+        this.postSummaryStore = postSummaryStore;
+        this.executor = executor;
+    }
+
+    public List<FeedItemResponse> hydrate(Collection<String> members) {
+        if (members.isEmpty()) {
+            return new ArrayList<>();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pageDeadlineMs);
+        List<Long> postIds = members.stream()
+                .map(Long::valueOf)
+                .toList();
+        Map<Long, PostSummary> summariesById = materializedEnabled ? postSummaryStore.findAll(postIds) : new HashMap<>();
+        List<Long> missingIds = postIds.stream()
+                .filter(postId -> !summariesById.containsKey(postId))
+                .toList();
+        Map<Long, String> usernameById = new HashMap<>();
+        Set<Long> unresolvedAuthors = new HashSet<>();
+        for (PostSummary summary : summariesById.values()) {
+            if (summary.username() != null) {
+                usernameById.putIfAbsent(summary.authorId(), summary.username());
+            } else if (summary.authorId() != null) {
+                unresolvedAuthors.add(summary.authorId());
+            }
+        }
+        unresolvedAuthors.removeAll(usernameById.keySet());
+        Set<Long> knownAuthors = new HashSet<>(usernameById.keySet());
+        knownAuthors.addAll(unresolvedAuthors);
+        CompletableFuture<Map<Long, String>> cachedAuthors = fetchUsersAsync(unresolvedAuthors);
+        List<CompletableFuture<List<PostClient.PostResponse>>> fetchedChunks = new ArrayList<>();
+        List<CompletableFuture<Map<Long, String>>> authorLookups = new ArrayList<>();
+        authorLookups.add(cachedAuthors);
+        int step = Math.max(chunkSize, 1);
+        for (int from = 0; from < missingIds.size(); from += step) {
+            List<Long> chunk = missingIds.subList(from, Math.min(from + step, missingIds.size()));
+            CompletableFuture<List<PostClient.PostResponse>> fetched = supplyAsync(() -> postClient.fetchPosts(chunk), List.of(), "Post hydration for " + chunk.size() + " posts");
+            fetchedChunks.add(fetched);
+            authorLookups.add(fetched.thenCompose(posts -> fetchUsersAsync(authorsOf(posts, knownAuthors))));
+        }
+        awaitDeadline(CompletableFuture.allOf(authorLookups.toArray(CompletableFuture[]::new)), deadline, missingIds.size());
+        List<PostClient.PostResponse> posts = new ArrayList<>();
+        fetchedChunks.forEach(fetched -> posts.addAll(fetched.getNow(List.of())));
+        authorLookups.forEach(lookup -> usernameById.putAll(lookup.getNow(Map.of())));
+        List<PostSummary> resolved = new ArrayList<>();
+        for (PostClient.PostResponse post : posts) {
+            resolved.add(new PostSummary(post.getId(), post.getUserId(), post.getCaption(), post.getMediaUrl(), usernameById.get(post.getUserId())));
+        }
+        for (PostSummary summary : summariesById.values()) {
+            if (summary.username() == null && usernameById.containsKey(summary.authorId())) {
+                resolved.add(new PostSummary(summary.postId(), summary.authorId(), summary.caption(), summary.mediaUrl(), usernameById.get(summary.authorId())));
+            }
+        }
+        resolved.forEach(summary -> summariesById.put(summary.postId(), summary));
+        if (materializedEnabled) {
+            postSummaryStore.saveAll(resolved.stream().filter(summary -> summary.username() != null).toList());
+        }
+        List<FeedItemResponse> items = new ArrayList<>();
+        for (Long postId : postIds) {
+            PostSummary summary = summariesById.get(postId);
+            if (summary != null) {
+                items.add(summary.toFeedItem());
+            }
+        }
+        return items;
+    }
+
+    private Set<Long> authorsOf(List<PostClient.PostResponse> posts, Set<Long> knownAuthors) {
+        Set<Long> authors = new HashSet<>();
+        for (PostClient.PostResponse post : posts) {
+            if (post.getUserId() != null && !knownAuthors.contains(post.getUserId())) {
+                authors.add(post.getUserId());
+            }
+        }
+        return authors;
+    }
+
+    private void awaitDeadline(CompletableFuture<Void> lookups, long deadline, int missingPosts) {
+        try {
+            lookups.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            log.warn("Hydration missed the {} ms page deadline with {} posts to fetch, returning a partial page", pageDeadlineMs, missingPosts);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            log.warn("Hydration failed: {}", ex.getCause().toString());
+        }
+    }
+
+    private CompletableFuture<Map<Long, String>> fetchUsersAsync(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        return supplyAsync(() -> userClient.fetchUsers(userIds), Map.of(), "Author hydration for " + userIds.size() + " users");
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> lookup, T fallback, String description) {
+        try {
+            return CompletableFuture.supplyAsync(lookup, executor)
+                    .exceptionally(ex -> {
+                        log.warn("{} failed: {}", description, ex.toString());
+                        return fallback;
+                    });
+        } catch (RejectedExecutionException ex) {
+            log.debug("Hydration executor is saturated, running {} inline", description);
+            return CompletableFuture.completedFuture(lookup.get());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.socialmedia.feed.service;
+
+final class FeedKeys {
+
+    static final String CELEBRITIES = "feed:celebrities";
+
+    static final String ACTIVE_USERS = "feed:active";
+
+    private FeedKeys() {
+    }
+
+    static String feed(Long userId) {
+        return "feed:" + userId;
+    }
+
+    static String rankedFeed(Long userId) {
+        return "feed:ranked:" + userId;
+    }
+
+    static String affinity(Long userId) {
+        return "feed:affinity:" + userId;
+    }
+
+    static String timeline(Long authorId) {
+        return "timeline:" + authorId;
+    }
+
+    static String followerCount(Long authorId) {
+        return "feed:follower-count:" + authorId;
+    }
+
+    static String pullAuthors(Long userId) {
+        return "feed:pull-authors:" + userId;
+    }
+
+    static String fanoutDone(Long postId) {
+        return "feed:fanout:done:" + postId;
+    }
+
+    static String fanoutCheckpoint(Long postId) {
+        return "feed:fanout:checkpoint:" + postId;
+    }
+
+    static String postSummary(Long postId) {
+        return "post:summary:" + postId;
+    }
+}
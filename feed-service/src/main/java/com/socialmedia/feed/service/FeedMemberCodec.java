@@ -0,0 +1,101 @@
+package com.socialmedia.feed.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class FeedMemberCodec {
+
+    public enum Encoding {
+        DECIMAL,
+        DUAL,
+        BINARY
+    }
+
+    public static final long MAX_BINARY_MEMBER = 0x2FFFFFFFFFFFFFFFL;
+
+    private final Encoding encoding;
+    private final Comparator<ZSetOperations.TypedTuple<String>> newestFirst;
+
+    public FeedMemberCodec(@Value("${feed.storage.member-encoding:DECIMAL}") Encoding encoding) {
+        this.encoding = encoding;
+        this.newestFirst = Comparator.comparing((ZSetOperations.TypedTuple<String> entry) -> entry.getScore(), Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(ZSetOperations.TypedTuple::getValue, (left, right) -> compare(right, left));
+        log.info("Feed members are written with {} encoding", encoding);
+    }
+
+    public Encoding getEncoding() {
+        return encoding;
+    }
+
+    public Comparator<ZSetOperations.TypedTuple<String>> newestFirst() {
+        return newestFirst;
+    }
+
+    public int compare(String left, String right) {
+        return Arrays.compareUnsigned(encode(left), encode(right));
+    }
+
+    public byte[] key(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public byte[] encode(String member) {
+        return encoding == Encoding.DECIMAL ? decimal(member) : binary(member);
+    }
+
+    public byte[][] encodings(String member) {
+        if (encoding == Encoding.DUAL) {
+            return new byte[][] {binary(member), decimal(member)};
+        }
+        return new byte[][] {encode(member)};
+    }
+
+    public Set<Tuple> encode(Set<StringRedisConnection.StringTuple> entries) {
+        Set<Tuple> encoded = new LinkedHashSet<>();
+        for (StringRedisConnection.StringTuple entry : entries) {
+            encoded.add(new DefaultTuple(encode(entry.getValueAsString()), entry.getScore()));
+        }
+        return encoded;
+    }
+
+    public String decode(byte[] raw) {
+        if (raw.length == Long.BYTES && raw[0] >= 0 && raw[0] < '0') {
+            return String.valueOf(ByteBuffer.wrap(raw).getLong());
+        }
+        return new String(raw, StandardCharsets.US_ASCII);
+    }
+
+    public Set<String> decodeAll(Collection<byte[]> raw) {
+        Set<String> members = new LinkedHashSet<>();
+        for (byte[] value : raw) {
+            members.add(decode(value));
+        }
+        return members;
+    }
+
+    private byte[] decimal(String member) {
+        return String.valueOf(Long.parseLong(member)).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private byte[] binary(String member) {
+        long id = Long.parseLong(member);
+        if (id < 0 || id > MAX_BINARY_MEMBER) {
+            throw new IllegalArgumentException("Feed member " + id + " cannot be stored in binary encoding");
+        }
+        return ByteBuffer.allocate(Long.BYTES).putLong(id).array();
+    }
+}
@@ -0,0 +1,118 @@
+package com.socialmedia.feed.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.ValueEncoding;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("memory-report")
+@Slf4j
+public class FeedMemoryReport implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final String KEY_PREFIX = "feed-memory-report:";
+    private static final byte[] MEMORY_USAGE_SCRIPT = "return redis.call('MEMORY', 'USAGE', KEYS[1], 'SAMPLES', '0')".getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<byte[], byte[]> feedRedisTemplate;
+    private final int feeds;
+    private final List<Integer> entriesPerFeed;
+    private int exitCode = 1;
+
+    public FeedMemoryReport(RedisTemplate<byte[], byte[]> feedRedisTemplate,
+                            @Value("${feed.memory-report.feeds:100}") int feeds,
+                            @Value("${feed.memory-report.entries:100,1000}") List<Integer> entriesPerFeed) {
+        this.feedRedisTemplate = feedRedisTemplate;
+        this.feeds = Math.max(feeds, 1);
+        this.entriesPerFeed = entriesPerFeed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-10s %-8s %8s %-10s %12s %12s", "ids", "encoding", "entries", "zset", "bytes/feed", "bytes/entry"));
+        for (IdFamily family : IdFamily.values()) {
+            for (int entries : entriesPerFeed) {
+                long decimalBytes = 0L;
+                for (FeedMemberCodec.Encoding encoding : Arrays.asList(FeedMemberCodec.Encoding.DECIMAL, FeedMemberCodec.Encoding.BINARY)) {
+                    Measurement measurement = measure(new FeedMemberCodec(encoding), family, entries);
+                    long perFeed = measurement.totalBytes() / feeds;
+                    lines.add(String.format("%-10s %-8s %8d %-10s %12d %12.1f", family.name().toLowerCase(), encoding, entries,
+                            measurement.zsetEncoding(), perFeed, (double) perFeed / entries));
+                    if (encoding == FeedMemberCodec.Encoding.DECIMAL) {
+                        decimalBytes = measurement.totalBytes();
+                    } else if (decimalBytes > 0) {
+                        lines.add(String.format("%-10s binary/decimal = %.2f", "", (double) measurement.totalBytes() / decimalBytes));
+                    }
+                }
+            }
+        }
+        log.info("Feed member memory report ({} feeds per row, MEMORY USAGE SAMPLES 0):\n{}", feeds, String.join("\n", lines));
+        exitCode = 0;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private Measurement measure(FeedMemberCodec codec, IdFamily family, int entries) {
+        Random random = new Random(entries);
+        long now = System.currentTimeMillis();
+        List<byte[]> keys = new ArrayList<>(feeds);
+        for (int i = 0; i < feeds; i++) {
+            keys.add(codec.key(KEY_PREFIX + codec.getEncoding() + ":" + entries + ":" + i));
+        }
+        try {
+            for (byte[] key : keys) {
+                Set<StringRedisConnection.StringTuple> tuples = new LinkedHashSet<>();
+                while (tuples.size() < entries) {
+                    long postId = family.base + random.nextInt(50_000_000);
+                    tuples.add(new DefaultStringTuple(String.valueOf(postId), now - random.nextInt(86_400_000)));
+                }
+                feedRedisTemplate.execute((RedisCallback<Object>) connection -> connection.zSetCommands().zAdd(key, codec.encode(tuples)));
+            }
+            long total = 0L;
+            for (byte[] key : keys) {
+                Object usage = feedRedisTemplate.execute((RedisCallback<Object>) connection ->
+                        connection.scriptingCommands().eval(MEMORY_USAGE_SCRIPT, ReturnType.INTEGER, 1, key));
+                if (usage instanceof Long bytes) {
+                    total += bytes;
+                }
+            }
+            ValueEncoding zsetEncoding = feedRedisTemplate.execute((RedisCallback<ValueEncoding>) connection -> connection.keyCommands().encodingOf(keys.get(0)));
+            return new Measurement(total, zsetEncoding != null ? zsetEncoding.raw() : "unknown");
+        } finally {
+            feedRedisTemplate.execute((RedisCallback<Object>) connection -> connection.keyCommands().del(keys.toArray(new byte[0][])));
+        }
+    }
+
+    private enum IdFamily {
+        SEQUENTIAL(1_000_000L),
+        SNOWFLAKE(1L << 60);
+
+        private final long base;
+
+        IdFamily(long base) {
+            this.base = base;
+        }
+    }
+
+    private record Measurement(long totalBytes, String zsetEncoding) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.socialmedia.feed.service;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FeedRanker {
+
+    private final boolean enabled;
+    private final double recencyWeight;
+    private final double decayMillis;
+    private final double affinityWeight;
+
+    public FeedRanker(@Value("${feed.ranked.enabled:false}") boolean enabled,
+                      @Value("${feed.ranked.recency-weight:1.0}") double recencyWeight,
+                      @Value("${feed.ranked.decay-hours:6}") long decayHours,
+                      @Value("${feed.ranked.affinity-weight:1.0}") double affinityWeight) {
+        this.enabled = enabled;
+        this.recencyWeight = recencyWeight;
+        this.decayMillis = Duration.ofHours(Math.max(decayHours, 1L)).toMillis();
+        this.affinityWeight = affinityWeight;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double score(double createdAtMillis, long affinity) {
+        return recencyWeight * createdAtMillis / decayMillis + affinityBoost(affinity);
+    }
+
+    public double affinityBoost(long affinity) {
+        return affinityWeight * Math.log1p(Math.max(affinity, 0L));
+    }
+}
@@ -0,0 +1,118 @@
+package com.socialmedia.feed.service;
+
+import com.socialmedia.feed.client.GraphClient;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class FeedRebuilder {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<byte[], byte[]> feedRedisTemplate;
+    private final FeedMemberCodec memberCodec;
+    private final GraphClient graphClient;
+    private final FeedFanoutWriter fanoutWriter;
+    private final RankedFeedStore rankedFeedStore;
+    private final Executor executor;
+
+    @Value("${feed.activity.rebuild-posts-per-author:20}")
+    private int postsPerAuthor;
+
+    @Value("${feed.activity.rebuild-max-authors:500}")
+    private int maxAuthors;
+
+    @Value("${feed.max-length:1000}")
+    private int maxFeedLength;
+
+    public FeedRebuilder(StringRedisTemplate redisTemplate, RedisTemplate<byte[], byte[]> feedRedisTemplate,
+                         FeedMemberCodec memberCodec, GraphClient graphClient, FeedFanoutWriter fanoutWriter,
+                         RankedFeedStore rankedFeedStore, @Qualifier("feedRebuildExecutor") Executor executor) {
+        this.redisTemplate = redisTemplate;
+        this.feedRedisTemplate = feedRedisTemplate;
+        this.memberCodec = memberCodec;
+        this.graphClient = graphClient;
+        this.fanoutWriter = fanoutWriter;
+        this.rankedFeedStore = rankedFeedStore;
+        this.executor = executor;
+    }
+
+    public void rebuildAsync(Long userId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    rebuild(userId);
+                } catch (RuntimeException ex) {
+                    log.warn("Feed rebuild failed for userId={}", userId, ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.warn("Feed rebuild queue is full, skipped rebuild for userId={}", userId);
+        }
+    }
+
+    public void rebuild(Long userId) {
+        long start = System.nanoTime();
+        List<Long> authors = new ArrayList<>(pushAuthors(graphClient.fetchFollowingIds(userId, Math.max(maxAuthors, 1))));
+        authors.add(userId);
+        List<Object> timelines = feedRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long authorId : authors) {
+                connection.zSetCommands().zRevRangeWithScores(memberCodec.key(FeedKeys.timeline(authorId)), 0, Math.max(postsPerAuthor, 1) - 1L);
+            }
+            return null;
+        });
+        Map<Long, Set<StringRedisConnection.StringTuple>> entriesByAuthor = new LinkedHashMap<>();
+        List<StringRedisConnection.StringTuple> all = new ArrayList<>();
+        for (int i = 0; i < timelines.size(); i++) {
+            if (!(timelines.get(i) instanceof Set<?> tuples)) {
+                continue;
+            }
+            for (Object tuple : tuples) {
+                if (tuple instanceof ZSetOperations.TypedTuple<?> typed && typed.getValue() instanceof byte[] raw && typed.getScore() != null) {
+                    StringRedisConnection.StringTuple entry = new DefaultStringTuple(memberCodec.decode(raw), typed.getScore());
+                    entriesByAuthor.computeIfAbsent(authors.get(i), id -> new LinkedHashSet<>()).add(entry);
+                    all.add(entry);
+                }
+            }
+        }
+        if (all.isEmpty()) {
+            return;
+        }
+        all.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+        Set<StringRedisConnection.StringTuple> newest = new LinkedHashSet<>(all.subList(0, Math.min(all.size(), maxFeedLength)));
+        fanoutWriter.addToFeeds(Map.of(userId, newest));
+        rankedFeedStore.addForUser(userId, entriesByAuthor);
+        log.info("Rebuilt feed for returning userId={} from {} authors with {} posts in {} ms", userId, authors.size(),
+                newest.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<Long> pushAuthors(List<Long> following) {
+        if (following.isEmpty()) {
+            return following;
+        }
+        Map<Object, Boolean> celebrities = redisTemplate.opsForSet().isMember(FeedKeys.CELEBRITIES, following.stream().map(String::valueOf).toArray());
+        List<Long> authors = new ArrayList<>(following.size());
+        for (Long authorId : following) {
+            if (celebrities == null || !Boolean.TRUE.equals(celebrities.get(String.valueOf(authorId)))) {
+                authors.add(authorId);
+            }
+        }
+        return authors;
+    }
+}
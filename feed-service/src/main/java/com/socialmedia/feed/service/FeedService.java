@@ -1,21 +1,28 @@
 package com.socialmedia.feed.service;
 
 import com.socialmedia.feed.client.GraphClient;
-import com.socialmedia.feed.client.PostClient;
 import com.socialmedia.feed.client.UserClient;
+import com.socialmedia.feed.dto.CursorPagedResponse;
 import com.socialmedia.feed.dto.FeedItemResponse;
 import com.socialmedia.feed.dto.PagedResponse;
 import com.socialmedia.feed.kafka.PostCreatedEvent;
+import com.socialmedia.feed.kafka.PostDeletedEvent;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
@@ -26,46 +33,186 @@ import org.springframework.stereotype.Service;
 public class FeedService {
 
     private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<byte[], byte[]> feedRedisTemplate;
+    private final FeedMemberCodec memberCodec;
     private final GraphClient graphClient;
-    private final PostClient postClient;
     private final UserClient userClient;
+    private final FeedFanoutWriter fanoutWriter;
+    private final FanoutDispatcher fanoutDispatcher;
+    private final HybridFeedReader hybridFeedReader;
+    private final FeedCursorReader feedCursorReader;
+    private final PostSummaryStore postSummaryStore;
+    private final FeedHydrator feedHydrator;
+    private final HotFeedCache hotFeedCache;
+    private final RankedFeedStore rankedFeedStore;
+    private final FeedActivityTracker activityTracker;
+    private final FeedRebuilder feedRebuilder;
+    private final FanoutProgressStore progressStore;
+    private final CelebrityClassifier celebrityClassifier;
 
     @Value("${kafka.topics.post-created:post_created}")
     private String postCreatedTopic;
 
+    @Value("${feed.hybrid.enabled:false}")
+    private boolean hybridEnabled;
+
+    @Value("${feed.hybrid.demotion-backfill:50}")
+    private int demotionBackfill;
+
+    @Value("${feed.fanout.checkpoint-interval:5000}")
+    private long checkpointInterval;
+
+    @Value("${feed.materialized.enabled:false}")
+    private boolean materializedEnabled;
+
     public void handlePostCreated(PostCreatedEvent event) {
+        handlePostsCreated(List.of(event));
+    }
+
+    public void handlePostsCreated(List<PostCreatedEvent> events) {
+        Set<Long> completed = progressStore.completed(events.stream()
+                .filter(event -> event != null && event.getPostId() != null)
+                .map(PostCreatedEvent::getPostId)
+                .collect(Collectors.toSet()));
+        List<PostCreatedEvent> valid = new ArrayList<>();
+        Map<Long, Set<StringRedisConnection.StringTuple>> entriesByAuthor = new LinkedHashMap<>();
+        Map<Long, List<Long>> postIdsByAuthor = new LinkedHashMap<>();
+        for (PostCreatedEvent event : events) {
+            if (event == null || event.getPostId() == null || event.getUserId() == null) {
+                continue;
+            }
+            if (completed.contains(event.getPostId())) {
+                log.debug("Skipped replayed PostCreatedEvent postId={}, fan-out already completed", event.getPostId());
+                continue;
+            }
+            long score = event.getCreatedAt() != null ? event.getCreatedAt().toEpochMilli() : Instant.now().toEpochMilli();
+            entriesByAuthor.computeIfAbsent(event.getUserId(), id -> new LinkedHashSet<>())
+                    .add(new DefaultStringTuple(String.valueOf(event.getPostId()), score));
+            postIdsByAuthor.computeIfAbsent(event.getUserId(), id -> new ArrayList<>()).add(event.getPostId());
+            valid.add(event);
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+        if (materializedEnabled) {
+            materializeSummaries(valid);
+        }
+        FanoutDispatcher.Batch batch = fanoutDispatcher.newBatch();
+        for (Map.Entry<Long, Set<StringRedisConnection.StringTuple>> authorEntries : entriesByAuthor.entrySet()) {
+            Long authorId = authorEntries.getKey();
+            Set<StringRedisConnection.StringTuple> posted = authorEntries.getValue();
+            List<Long> postIds = postIdsByAuthor.get(authorId);
+            fanoutWriter.addToTimeline(authorId, posted);
+            batch.add(authorId, posted);
+            rankedFeedStore.addToFeeds(authorId, List.of(authorId), posted);
+            CelebrityClassifier.Placement placement = hybridEnabled ? celebrityClassifier.classify(authorId) : CelebrityClassifier.Placement.PUSH;
+            if (placement == CelebrityClassifier.Placement.PULL) {
+                log.debug("Skipped fan-out of {} posts, author {} is on the pull path", posted.size(), authorId);
+                continue;
+            }
+            Set<StringRedisConnection.StringTuple> entries = new LinkedHashSet<>(posted);
+            if (placement == CelebrityClassifier.Placement.DEMOTED) {
+                entries.addAll(fanoutWriter.readTimeline(authorId, demotionBackfill));
+                log.info("Backfilling up to {} timeline posts of demoted authorId={} to its followers", demotionBackfill, authorId);
+            }
+            long resumeAfter = progressStore.resumeAfter(postIds);
+            if (resumeAfter > 0) {
+                log.info("Resuming fan-out of posts {} from authorId={} after followerId={}", postIds, authorId, resumeAfter);
+            }
+            AtomicLong sinceCheckpoint = new AtomicLong();
+            graphClient.streamFollowerIds(authorId, resumeAfter, fanoutWriter.getChunkSize(), chunk -> {
+                List<Long> recipients = activityTracker.filterActive(chunk);
+                for (Long followerId : recipients) {
+                    batch.add(followerId, entries);
+                }
+                rankedFeedStore.addToFeeds(authorId, recipients, entries);
+                if (sinceCheckpoint.addAndGet(chunk.size()) >= checkpointInterval) {
+                    long lastFollowerId = chunk.get(chunk.size() - 1);
+                    batch.checkpoint(() -> progressStore.saveCheckpoint(postIds, lastFollowerId));
+                    sinceCheckpoint.set(0L);
+                }
+            });
+        }
+        long written = batch.await();
+        progressStore.markCompleted(postIdsByAuthor.values().stream().flatMap(List::stream).toList());
+        log.debug("Fanned out {} posts from {} authors with {} feed writes", valid.size(), entriesByAuthor.size(), written);
+    }
+
+    public void handlePostDeleted(PostDeletedEvent event) {
         if (event == null || event.getPostId() == null || event.getUserId() == null) {
             return;
         }
         Long authorId = event.getUserId();
-        List<Long> followers = graphClient.fetchFollowerIds(authorId);
-        Set<Long> targetUserIds = new HashSet<>(followers);
-        targetUserIds.add(authorId);
-        long score = event.getCreatedAt() != null ? event.getCreatedAt().toEpochMilli() : Instant.now().toEpochMilli();
         String member = String.valueOf(event.getPostId());
-        ZSetOperations<String, String> zset = redisTemplate.opsForZSet();
-        for (Long userId : targetUserIds) {
-            String key = feedKey(userId);
-            zset.add(key, member, score);
+        fanoutWriter.removeFromTimeline(authorId, member);
+        redisTemplate.delete(FeedKeys.postSummary(event.getPostId()));
+        AtomicLong removed = new AtomicLong(fanoutWriter.removeFromFeeds(List.of(authorId), member));
+        if (!Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(FeedKeys.CELEBRITIES, String.valueOf(authorId)))) {
+            graphClient.streamFollowerIds(authorId, 0L, fanoutWriter.getChunkSize(),
+                    chunk -> removed.addAndGet(fanoutWriter.removeFromFeeds(chunk, member)));
         }
-        log.debug("Added postId={} to feeds of {} users", event.getPostId(), targetUserIds.size());
+        log.debug("Retracted postId={} from {} feeds", event.getPostId(), removed);
     }
 
     public PagedResponse<FeedItemResponse> getFeed(Long userId, int page, int size) {
+        return getFeed(userId, page, size, false);
+    }
+
+    public PagedResponse<FeedItemResponse> getFeed(Long userId, int page, int size, boolean ranked) {
         if (userId == null) {
             throw new IllegalArgumentException("userId is required");
         }
+        if (ranked && !rankedFeedStore.isEnabled()) {
+            throw new IllegalArgumentException("Ranked feed is not enabled");
+        }
         int safeSize = Math.min(Math.max(size, 1), 100);
-        String key = feedKey(userId);
-        Long total = redisTemplate.opsForZSet().zCard(key);
-        long totalElements = total != null ? total : 0L;
+        materializeIfCold(userId);
+        return hotFeedCache.get(userId, Math.max(page, 0), safeSize, ranked, () -> loadFeedPage(userId, page, safeSize, ranked));
+    }
+
+    public void recordInteraction(Long viewerId, Long authorId) {
+        if (viewerId == null || authorId == null) {
+            throw new IllegalArgumentException("viewerId and authorId are required");
+        }
+        if (viewerId.equals(authorId)) {
+            return;
+        }
+        rankedFeedStore.recordInteraction(viewerId, authorId);
+    }
+
+    private void materializeIfCold(Long userId) {
+        if (activityTracker.touch(userId)) {
+            feedRebuilder.rebuildAsync(userId);
+        }
+    }
+
+    private PagedResponse<FeedItemResponse> loadFeedPage(Long userId, int page, int safeSize, boolean ranked) {
+        String key = FeedKeys.feed(userId);
+        List<Long> pullAuthors = hybridEnabled ? hybridFeedReader.pullAuthors(userId) : List.of();
+        long totalElements;
+        if (ranked) {
+            totalElements = rankedFeedStore.count(userId);
+        } else {
+            Long total = redisTemplate.opsForZSet().zCard(key);
+            totalElements = total != null ? total : 0L;
+        }
+        if (!pullAuthors.isEmpty()) {
+            totalElements += hybridFeedReader.countTimelines(pullAuthors);
+        }
         int totalPages = totalElements == 0 ? 0 : (int) Math.ceil((double) totalElements / safeSize);
         int requestedPage = Math.max(page, 0);
         int maxPage = totalPages == 0 ? 0 : totalPages - 1;
         int safePage = Math.min(requestedPage, Math.max(maxPage, 0));
         long start = (long) safePage * safeSize;
         long end = start + safeSize - 1L;
-        Set<String> range = redisTemplate.opsForZSet().reverseRange(key, start, end);
+        Collection<String> range;
+        if (ranked) {
+            range = rankedFeedStore.readRange(userId, pullAuthors, start, end);
+        } else {
+            range = pullAuthors.isEmpty()
+                    ? readRange(key, start, end)
+                    : hybridFeedReader.mergeRange(key, pullAuthors, start, end);
+        }
         if (range == null || range.isEmpty()) {
             return PagedResponse.<FeedItemResponse>builder()
                     .content(new ArrayList<>())
@@ -75,40 +222,7 @@ public class FeedService {
                     .totalPages(totalPages)
                     .build();
         }
-        List<Long> postIds = range.stream()
-                .map(Long::valueOf)
-                .toList();
-        List<PostClient.PostResponse> posts = new ArrayList<>();
-        for (Long postId : postIds) {
-            PostClient.PostResponse post = postClient.fetchPost(postId);
-            if (post != null) {
-                posts.add(post);
-            }
-        }
-        Set<Long> userIds = new HashSet<>();
-        for (PostClient.PostResponse post : posts) {
-            if (post.getUserId() != null) {
-                userIds.add(post.getUserId());
-            }
-        }
-        Map<Long, String> usernameById = new HashMap<>();
-        for (Long uid : userIds) {
-            UserClient.UserProfileResponse profile = userClient.fetchUser(uid);
-            if (profile != null && profile.getUsername() != null) {
-                usernameById.put(uid, profile.getUsername());
-            }
-        }
-        List<FeedItemResponse> items = new ArrayList<>();
-        for (PostClient.PostResponse post : posts) {
-            String username = usernameById.get(post.getUserId());
-            FeedItemResponse item = FeedItemResponse.builder()
-                    .postId(post.getId())
-                    .caption(post.getCaption())
-                    .mediaUrl(post.getMediaUrl())
-                    .username(username)
-                    .build();
-            items.add(item);
-        }
+        List<FeedItemResponse> items = feedHydrator.hydrate(range);
         return PagedResponse.<FeedItemResponse>builder()
                 .content(items)
                 .page(safePage)
@@ -118,8 +232,59 @@ public class FeedService {
                 .build();
     }
 
-    private String feedKey(Long userId) {
-        return "feed:" + userId;
+    private Collection<String> readRange(String key, long start, long end) {
+        Set<byte[]> raw = feedRedisTemplate.opsForZSet().reverseRange(memberCodec.key(key), start, end);
+        return raw != null ? memberCodec.decodeAll(raw) : null;
+    }
+
+    public CursorPagedResponse<FeedItemResponse> getFeedBefore(Long userId, String before, int size, boolean includeTotal) {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId is required");
+        }
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        FeedCursor cursor = FeedCursor.parse(before);
+        materializeIfCold(userId);
+        String key = FeedKeys.feed(userId);
+        List<Long> pullAuthors = hybridEnabled ? hybridFeedReader.pullAuthors(userId) : List.of();
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        pullAuthors.forEach(authorId -> keys.add(FeedKeys.timeline(authorId)));
+        List<ZSetOperations.TypedTuple<String>> entries = feedCursorReader.readBefore(keys, cursor, safeSize);
+        Long totalElements = null;
+        if (includeTotal) {
+            Long total = redisTemplate.opsForZSet().zCard(key);
+            totalElements = (total != null ? total : 0L) + (pullAuthors.isEmpty() ? 0L : hybridFeedReader.countTimelines(pullAuthors));
+        }
+        String nextCursor = null;
+        if (entries.size() == safeSize) {
+            ZSetOperations.TypedTuple<String> last = entries.get(entries.size() - 1);
+            nextCursor = new FeedCursor(last.getScore().longValue(), last.getValue()).toString();
+        }
+        List<String> members = entries.stream()
+                .map(ZSetOperations.TypedTuple::getValue)
+                .toList();
+        return CursorPagedResponse.<FeedItemResponse>builder()
+                .content(feedHydrator.hydrate(members))
+                .size(safeSize)
+                .nextCursor(nextCursor)
+                .totalElements(totalElements)
+                .build();
     }
-}
 
+    private void materializeSummaries(List<PostCreatedEvent> events) {
+        List<PostCreatedEvent> withMedia = events.stream().filter(event -> event.getMediaUrl() != null).collect(Collectors.toList());
+        if (withMedia.isEmpty()) {
+            return;
+        }
+        Set<Long> authorIds = withMedia.stream().map(PostCreatedEvent::getUserId).collect(Collectors.toSet());
+        Map<Long, String> usernames = userClient.fetchUsers(authorIds);
+        List<PostSummary> summaries = withMedia.stream()
+                .filter(event -> usernames.containsKey(event.getUserId()))
+                .map(event -> new PostSummary(event.getPostId(), event.getUserId(), event.getCaption(), event.getMediaUrl(), usernames.get(event.getUserId())))
+                .collect(Collectors.toList());
+        if (summaries.size() < withMedia.size()) {
+            log.debug("Skipped {} post summaries without a resolved username", withMedia.size() - summaries.size());
+        }
+        postSummaryStore.saveAll(summaries);
+    }
+}
@@ -0,0 +1,82 @@
+package com.socialmedia.feed.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class FollowFeedUpdater {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<byte[], byte[]> feedRedisTemplate;
+    private final FeedMemberCodec memberCodec;
+    private final FeedFanoutWriter fanoutWriter;
+    private final HotFeedCache hotFeedCache;
+    private final RankedFeedStore rankedFeedStore;
+    private final int backfillSize;
+
+    public FollowFeedUpdater(StringRedisTemplate redisTemplate, RedisTemplate<byte[], byte[]> feedRedisTemplate,
+                             FeedMemberCodec memberCodec, FeedFanoutWriter fanoutWriter, HotFeedCache hotFeedCache,
+                             RankedFeedStore rankedFeedStore,
+                             @Value("${feed.follow.backfill-size:20}") int backfillSize) {
+        this.redisTemplate = redisTemplate;
+        this.feedRedisTemplate = feedRedisTemplate;
+        this.memberCodec = memberCodec;
+        this.fanoutWriter = fanoutWriter;
+        this.hotFeedCache = hotFeedCache;
+        this.rankedFeedStore = rankedFeedStore;
+        this.backfillSize = Math.max(backfillSize, 0);
+    }
+
+    public void backfill(Long followerId, Long followeeId) {
+        redisTemplate.delete(FeedKeys.pullAuthors(followerId));
+        hotFeedCache.invalidate(List.of(followerId));
+        if (backfillSize == 0 || Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(FeedKeys.CELEBRITIES, String.valueOf(followeeId)))) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<byte[]>> recent = feedRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(memberCodec.key(FeedKeys.timeline(followeeId)), 0, backfillSize - 1);
+        if (recent == null || recent.isEmpty()) {
+            return;
+        }
+        Set<StringRedisConnection.StringTuple> entries = new LinkedHashSet<>();
+        for (ZSetOperations.TypedTuple<byte[]> tuple : recent) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                entries.add(new DefaultStringTuple(memberCodec.decode(tuple.getValue()), tuple.getScore()));
+            }
+        }
+        fanoutWriter.addToFeeds(Map.of(followerId, entries));
+        rankedFeedStore.addToFeeds(followeeId, List.of(followerId), entries);
+        log.debug("Backfilled {} posts of userId={} into feed of userId={}", entries.size(), followeeId, followerId);
+    }
+
+    public void prune(Long followerId, Long followeeId) {
+        redisTemplate.delete(FeedKeys.pullAuthors(followerId));
+        hotFeedCache.invalidate(List.of(followerId));
+        Set<byte[]> raw = feedRedisTemplate.opsForZSet().range(memberCodec.key(FeedKeys.timeline(followeeId)), 0, -1);
+        if (raw == null || raw.isEmpty()) {
+            return;
+        }
+        List<byte[]> members = new ArrayList<>();
+        for (String member : memberCodec.decodeAll(raw)) {
+            members.addAll(Arrays.asList(memberCodec.encodings(member)));
+        }
+        Long removed = feedRedisTemplate.opsForZSet().remove(memberCodec.key(FeedKeys.feed(followerId)), members.toArray());
+        if (rankedFeedStore.isEnabled()) {
+            feedRedisTemplate.opsForZSet().remove(memberCodec.key(FeedKeys.rankedFeed(followerId)), members.toArray());
+        }
+        log.debug("Pruned {} posts of userId={} from feed of userId={}", removed, followeeId, followerId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.socialmedia.feed.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.socialmedia.feed.dto.FeedItemResponse;
+import com.socialmedia.feed.dto.PagedResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class HotFeedCache {
+
+    private final Cache<Long, ConcurrentMap<PageKey, CompletableFuture<PagedResponse<FeedItemResponse>>>> pagesByUser;
+    private final boolean enabled;
+    private final int maxPages;
+
+    public HotFeedCache(MeterRegistry meterRegistry,
+                        @Value("${feed.cache.enabled:false}") boolean enabled,
+                        @Value("${feed.cache.ttl-ms:5000}") long ttlMs,
+                        @Value("${feed.cache.max-users:10000}") long maxUsers,
+                        @Value("${feed.cache.max-pages:1}") int maxPages) {
+        this.enabled = enabled;
+        this.maxPages = Math.max(maxPages, 0);
+        this.pagesByUser = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxUsers)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pagesByUser, "feed.hot-pages");
+    }
+
+    public PagedResponse<FeedItemResponse> get(Long userId, int page, int size, boolean ranked,
+                                              Supplier<PagedResponse<FeedItemResponse>> loader) {
+        if (!enabled || page >= maxPages) {
+            return loader.get();
+        }
+        ConcurrentMap<PageKey, CompletableFuture<PagedResponse<FeedItemResponse>>> pages =
+                pagesByUser.get(userId, id -> new ConcurrentHashMap<>());
+        PageKey key = new PageKey(page, size, ranked);
+        CompletableFuture<PagedResponse<FeedItemResponse>> created = new CompletableFuture<>();
+        CompletableFuture<PagedResponse<FeedItemResponse>> existing = pages.putIfAbsent(key, created);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+        try {
+            PagedResponse<FeedItemResponse> response = loader.get();
+            created.complete(response);
+            return response;
+        } catch (RuntimeException ex) {
+            pages.remove(key, created);
+            created.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    public void invalidate(Collection<Long> userIds) {
+        if (enabled) {
+            pagesByUser.invalidateAll(userIds);
+        }
+    }
+
+    private record PageKey(int page, int size, boolean ranked) {
+    }
+}
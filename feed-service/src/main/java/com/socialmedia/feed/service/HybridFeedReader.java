@@ -0,0 +1,112 @@
+package com.socialmedia.feed.service;
+
+import com.socialmedia.feed.client.GraphClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HybridFeedReader {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<byte[], byte[]> feedRedisTemplate;
+    private final FeedMemberCodec memberCodec;
+    private final GraphClient graphClient;
+
+    @Value("${feed.hybrid.pull-authors-ttl-seconds:60}")
+    private long pullAuthorsTtlSeconds;
+
+    public List<Long> pullAuthors(Long userId) {
+        String cacheKey = FeedKeys.pullAuthors(userId);
+        String cached = redisTemplate.opsForValue().get(cacheKey);
+        if (cached != null) {
+            return parseIds(cached);
+        }
+        List<Long> following = graphClient.fetchFollowingIds(userId);
+        List<Long> pullAuthors = new ArrayList<>();
+        if (!following.isEmpty()) {
+            Object[] members = following.stream().map(String::valueOf).toArray();
+            Map<Object, Boolean> membership = redisTemplate.opsForSet().isMember(FeedKeys.CELEBRITIES, members);
+            for (Long authorId : following) {
+                if (membership != null && Boolean.TRUE.equals(membership.get(String.valueOf(authorId)))) {
+                    pullAuthors.add(authorId);
+                }
+            }
+        }
+        String value = pullAuthors.stream().map(String::valueOf).collect(Collectors.joining(","));
+        redisTemplate.opsForValue().set(cacheKey, value, Duration.ofSeconds(pullAuthorsTtlSeconds));
+        log.debug("Resolved {} pull authors for userId={} out of {} followed", pullAuthors.size(), userId, following.size());
+        return pullAuthors;
+    }
+
+    public long countTimelines(List<Long> authorIds) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long authorId : authorIds) {
+                stringConnection.zCard(FeedKeys.timeline(authorId));
+            }
+            return null;
+        });
+        long total = 0L;
+        for (Object result : results) {
+            if (result instanceof Long count) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    public List<String> mergeRange(String feedKey, List<Long> authorIds, long start, long end) {
+        List<String> keys = new ArrayList<>();
+        keys.add(feedKey);
+        authorIds.forEach(authorId -> keys.add(FeedKeys.timeline(authorId)));
+        List<Object> results = feedRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.zSetCommands().zRevRangeWithScores(memberCodec.key(key), 0, end);
+            }
+            return null;
+        });
+        List<ZSetOperations.TypedTuple<String>> entries = new ArrayList<>();
+        for (Object result : results) {
+            if (result instanceof Set<?> tuples) {
+                for (Object tuple : tuples) {
+                    if (tuple instanceof ZSetOperations.TypedTuple<?> typed && typed.getValue() instanceof byte[] raw) {
+                        entries.add(ZSetOperations.TypedTuple.of(memberCodec.decode(raw), typed.getScore()));
+                    }
+                }
+            }
+        }
+        entries.sort(memberCodec.newestFirst());
+        Set<String> merged = new LinkedHashSet<>();
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            merged.add(entry.getValue());
+            if (merged.size() > end) {
+                break;
+            }
+        }
+        return merged.stream().skip(start).limit(end - start + 1).toList();
+    }
+
+    private List<Long> parseIds(String value) {
+        if (value.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(Long::valueOf).toList();
+    }
+}
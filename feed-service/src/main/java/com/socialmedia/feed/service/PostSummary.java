@@ -0,0 +1,15 @@
+package com.socialmedia.feed.service;
+
+import com.socialmedia.feed.dto.FeedItemResponse;
+
+public record PostSummary(Long postId, Long authorId, String caption, String mediaUrl, String username) {
+
+    public FeedItemResponse toFeedItem() {
+        return FeedItemResponse.builder()
+                .postId(postId)
+                .caption(caption)
+                .mediaUrl(mediaUrl)
+                .username(username)
+                .build();
+    }
+}
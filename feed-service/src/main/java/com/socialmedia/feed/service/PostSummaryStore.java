@@ -0,0 +1,85 @@
+package com.socialmedia.feed.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class PostSummaryStore {
+
+    private static final String AUTHOR_ID = "authorId";
+    private static final String CAPTION = "caption";
+    private static final String MEDIA_URL = "mediaUrl";
+    private static final String USERNAME = "username";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlSeconds;
+
+    public PostSummaryStore(StringRedisTemplate redisTemplate, @Value("${feed.materialized.ttl-hours:72}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = Duration.ofHours(ttlHours).toSeconds();
+    }
+
+    public void saveAll(Collection<PostSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (PostSummary summary : summaries) {
+                String key = FeedKeys.postSummary(summary.postId());
+                stringConnection.hMSet(key, toHash(summary));
+                stringConnection.expire(key, ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    public Map<Long, PostSummary> findAll(List<Long> postIds) {
+        Map<Long, PostSummary> found = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return found;
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long postId : postIds) {
+                stringConnection.hMGet(FeedKeys.postSummary(postId), AUTHOR_ID, CAPTION, MEDIA_URL, USERNAME);
+            }
+            return null;
+        });
+        for (int i = 0; i < postIds.size() && i < results.size(); i++) {
+            if (results.get(i) instanceof List<?> values && values.size() == 4 && values.get(0) != null) {
+                Long postId = postIds.get(i);
+                found.put(postId, new PostSummary(postId, Long.valueOf(String.valueOf(values.get(0))),
+                        (String) values.get(1), (String) values.get(2), (String) values.get(3)));
+            }
+        }
+        log.debug("Post summary cache hits={} of {}", found.size(), postIds.size());
+        return found;
+    }
+
+    private Map<String, String> toHash(PostSummary summary) {
+        Map<String, String> hash = new LinkedHashMap<>();
+        hash.put(AUTHOR_ID, String.valueOf(summary.authorId()));
+        if (summary.caption() != null) {
+            hash.put(CAPTION, summary.caption());
+        }
+        if (summary.mediaUrl() != null) {
+            hash.put(MEDIA_URL, summary.mediaUrl());
+        }
+        if (summary.username() != null) {
+            hash.put(USERNAME, summary.username());
+        }
+        return hash;
+    }
+}
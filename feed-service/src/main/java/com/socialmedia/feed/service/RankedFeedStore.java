@@ -0,0 +1,228 @@
+package com.socialmedia.feed.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class RankedFeedStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<byte[], byte[]> feedRedisTemplate;
+    private final FeedMemberCodec memberCodec;
+    private final FeedRanker ranker;
+    private final HotFeedCache hotFeedCache;
+
+    @Value("${feed.max-length:1000}")
+    private long maxFeedLength;
+
+    @Value("${feed.fanout.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${feed.ranked.rescore-window:100}")
+    private int rescoreWindow;
+
+    @Value("${feed.ranked.affinity-ttl-days:30}")
+    private long affinityTtlDays;
+
+    public RankedFeedStore(StringRedisTemplate redisTemplate, RedisTemplate<byte[], byte[]> feedRedisTemplate,
+                           FeedMemberCodec memberCodec, FeedRanker ranker, HotFeedCache hotFeedCache) {
+        this.redisTemplate = redisTemplate;
+        this.feedRedisTemplate = feedRedisTemplate;
+        this.memberCodec = memberCodec;
+        this.ranker = ranker;
+        this.hotFeedCache = hotFeedCache;
+    }
+
+    public boolean isEnabled() {
+        return ranker.isEnabled();
+    }
+
+    public void addToFeeds(Long authorId, Collection<Long> userIds, Set<StringRedisConnection.StringTuple> entries) {
+        if (!ranker.isEnabled()) {
+            return;
+        }
+        List<Long> chunk = new ArrayList<>(Math.min(Math.max(chunkSize, 1), userIds.size()));
+        for (Long userId : userIds) {
+            chunk.add(userId);
+            if (chunk.size() >= chunkSize) {
+                write(authorId, chunk, entries);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(authorId, chunk, entries);
+        }
+    }
+
+    public void addForUser(Long userId, Map<Long, Set<StringRedisConnection.StringTuple>> entriesByAuthor) {
+        if (!ranker.isEnabled() || entriesByAuthor.isEmpty()) {
+            return;
+        }
+        List<Long> authorIds = new ArrayList<>(entriesByAuthor.keySet());
+        List<Long> affinities = affinities(userId, authorIds);
+        Set<Tuple> ranked = new LinkedHashSet<>();
+        for (int i = 0; i < authorIds.size(); i++) {
+            for (StringRedisConnection.StringTuple entry : entriesByAuthor.get(authorIds.get(i))) {
+                ranked.add(new DefaultTuple(memberCodec.encode(entry.getValueAsString()), ranker.score(entry.getScore(), affinities.get(i))));
+            }
+        }
+        byte[] key = memberCodec.key(FeedKeys.rankedFeed(userId));
+        feedRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(key, ranked);
+            connection.zSetCommands().zRemRange(key, 0, -(maxFeedLength + 1));
+            return null;
+        });
+        hotFeedCache.invalidate(List.of(userId));
+    }
+
+    public long count(Long userId) {
+        Long total = feedRedisTemplate.opsForZSet().zCard(memberCodec.key(FeedKeys.rankedFeed(userId)));
+        return total != null ? total : 0L;
+    }
+
+    public List<String> readRange(Long userId, List<Long> pullAuthors, long start, long end) {
+        List<ZSetOperations.TypedTuple<String>> entries = new ArrayList<>();
+        Set<ZSetOperations.TypedTuple<byte[]>> head = feedRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(memberCodec.key(FeedKeys.rankedFeed(userId)), 0, end);
+        addDecoded(entries, head, null);
+        if (!pullAuthors.isEmpty()) {
+            List<Long> affinities = affinities(userId, pullAuthors);
+            List<Object> timelines = feedRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long authorId : pullAuthors) {
+                    connection.zSetCommands().zRevRangeWithScores(memberCodec.key(FeedKeys.timeline(authorId)), 0, end);
+                }
+                return null;
+            });
+            for (int i = 0; i < timelines.size(); i++) {
+                if (timelines.get(i) instanceof Set<?> tuples) {
+                    addDecoded(entries, tuples, affinities.get(i));
+                }
+            }
+        }
+        entries.sort(memberCodec.newestFirst());
+        Set<String> merged = new LinkedHashSet<>();
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            merged.add(entry.getValue());
+            if (merged.size() > end) {
+                break;
+            }
+        }
+        return merged.stream().skip(start).limit(end - start + 1).toList();
+    }
+
+    public void recordInteraction(Long viewerId, Long authorId) {
+        String affinityKey = FeedKeys.affinity(viewerId);
+        Long updated = redisTemplate.opsForHash().increment(affinityKey, String.valueOf(authorId), 1L);
+        redisTemplate.expire(affinityKey, Duration.ofDays(affinityTtlDays));
+        if (!ranker.isEnabled() || updated == null) {
+            return;
+        }
+        double delta = ranker.affinityBoost(updated) - ranker.affinityBoost(updated - 1);
+        Set<byte[]> recent = feedRedisTemplate.opsForZSet()
+                .reverseRange(memberCodec.key(FeedKeys.timeline(authorId)), 0, Math.max(rescoreWindow, 1) - 1L);
+        if (recent == null || recent.isEmpty()) {
+            return;
+        }
+        List<byte[]> members = new ArrayList<>();
+        for (String member : memberCodec.decodeAll(recent)) {
+            members.addAll(List.of(memberCodec.encodings(member)));
+        }
+        byte[] rankedKey = memberCodec.key(FeedKeys.rankedFeed(viewerId));
+        List<Double> scores = feedRedisTemplate.opsForZSet().score(rankedKey, members.toArray());
+        if (scores == null) {
+            return;
+        }
+        List<Tuple> rescored = new ArrayList<>();
+        for (int i = 0; i < members.size() && i < scores.size(); i++) {
+            if (scores.get(i) != null) {
+                rescored.add(new DefaultTuple(members.get(i), scores.get(i) + delta));
+            }
+        }
+        if (rescored.isEmpty()) {
+            return;
+        }
+        feedRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Tuple tuple : rescored) {
+                connection.zSetCommands().zAdd(rankedKey, tuple.getScore(), tuple.getValue(), RedisZSetCommands.ZAddArgs.ifExists());
+            }
+            return null;
+        });
+        hotFeedCache.invalidate(List.of(viewerId));
+        log.debug("Rescored {} posts of authorId={} for viewerId={} affinity={}", rescored.size(), authorId, viewerId, updated);
+    }
+
+    private void write(Long authorId, List<Long> userIds, Set<StringRedisConnection.StringTuple> entries) {
+        String field = String.valueOf(authorId);
+        List<Object> affinities = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long userId : userIds) {
+                stringConnection.hGet(FeedKeys.affinity(userId), field);
+            }
+            return null;
+        });
+        feedRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < userIds.size(); i++) {
+                long affinity = parseAffinity(affinities.get(i));
+                Set<Tuple> ranked = new LinkedHashSet<>();
+                for (StringRedisConnection.StringTuple entry : entries) {
+                    ranked.add(new DefaultTuple(memberCodec.encode(entry.getValueAsString()), ranker.score(entry.getScore(), affinity)));
+                }
+                byte[] key = memberCodec.key(FeedKeys.rankedFeed(userIds.get(i)));
+                connection.zSetCommands().zAdd(key, ranked);
+                connection.zSetCommands().zRemRange(key, 0, -(maxFeedLength + 1));
+            }
+            return null;
+        });
+        hotFeedCache.invalidate(userIds);
+    }
+
+    private List<Long> affinities(Long userId, List<Long> authorIds) {
+        List<Object> fields = new ArrayList<>(authorIds.stream().map(String::valueOf).toList());
+        List<Object> values = redisTemplate.opsForHash().multiGet(FeedKeys.affinity(userId), fields);
+        List<Long> affinities = new ArrayList<>(authorIds.size());
+        for (int i = 0; i < authorIds.size(); i++) {
+            affinities.add(values != null && i < values.size() ? parseAffinity(values.get(i)) : 0L);
+        }
+        return affinities;
+    }
+
+    private void addDecoded(List<ZSetOperations.TypedTuple<String>> entries, Collection<?> tuples, Long affinity) {
+        if (tuples == null) {
+            return;
+        }
+        for (Object tuple : tuples) {
+            if (tuple instanceof ZSetOperations.TypedTuple<?> typed && typed.getValue() instanceof byte[] raw && typed.getScore() != null) {
+                double score = affinity != null ? ranker.score(typed.getScore(), affinity) : typed.getScore();
+                entries.add(ZSetOperations.TypedTuple.of(memberCodec.decode(raw), score));
+            }
+        }
+    }
+
+    private long parseAffinity(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException ex) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.socialmedia.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.socialmedia.feed.client.GraphClient;
+import java.time.Duration;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class CelebrityClassifierTest {
+
+    private GraphClient graphClient;
+    private SetOperations<String, String> sets;
+    private ValueOperations<String, String> values;
+    private CelebrityClassifier classifier;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        sets = mock(SetOperations.class);
+        values = mock(ValueOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(sets);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        graphClient = mock(GraphClient.class);
+        classifier = new CelebrityClassifier(redisTemplate, graphClient, 10_000, 9_000, 600);
+    }
+
+    @Test
+    void promotesAnAuthorAtTheThresholdAndCachesTheCount() {
+        when(graphClient.fetchFollowerCount(1L)).thenReturn(OptionalLong.of(10_000));
+
+        assertThat(classifier.classify(1L)).isEqualTo(CelebrityClassifier.Placement.PULL);
+        verify(sets).add(FeedKeys.CELEBRITIES, "1");
+        verify(values).set("feed:follower-count:1", "10000", Duration.ofSeconds(600));
+    }
+
+    @Test
+    void usesTheCachedCountWithoutCallingGraphService() {
+        when(values.get("feed:follower-count:1")).thenReturn("50");
+
+        assertThat(classifier.classify(1L)).isEqualTo(CelebrityClassifier.Placement.PUSH);
+        verify(graphClient, never()).fetchFollowerCount(any());
+    }
+
+    @Test
+    void keepsTheCurrentPathWhenTheCountIsUnavailable() {
+        when(graphClient.fetchFollowerCount(any())).thenReturn(OptionalLong.empty());
+        when(sets.isMember(FeedKeys.CELEBRITIES, "1")).thenReturn(true);
+
+        assertThat(classifier.classify(1L)).isEqualTo(CelebrityClassifier.Placement.PULL);
+        assertThat(classifier.classify(2L)).isEqualTo(CelebrityClassifier.Placement.PUSH);
+        verify(sets, never()).remove(anyString(), any());
+        verify(sets, never()).add(anyString(), any());
+    }
+
+    @Test
+    void demotesACelebrityOnlyBelowTheDemotionThreshold() {
+        when(sets.isMember(FeedKeys.CELEBRITIES, "1")).thenReturn(true);
+        when(sets.remove(FeedKeys.CELEBRITIES, "1")).thenReturn(1L);
+        when(graphClient.fetchFollowerCount(1L)).thenReturn(OptionalLong.of(9_500), OptionalLong.of(8_999));
+
+        assertThat(classifier.classify(1L)).isEqualTo(CelebrityClassifier.Placement.PULL);
+        assertThat(classifier.classify(1L)).isEqualTo(CelebrityClassifier.Placement.DEMOTED);
+    }
+}
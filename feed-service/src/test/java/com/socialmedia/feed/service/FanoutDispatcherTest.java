@@ -0,0 +1,70 @@
+package com.socialmedia.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+
+class FanoutDispatcherTest {
+
+    private static final long OFFER_TIMEOUT_MS = 100;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private FanoutDispatcher dispatcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        FeedFanoutWriter writer = mock(FeedFanoutWriter.class);
+        when(writer.getChunkSize()).thenReturn(1);
+        when(writer.addToFeeds(anyMap())).thenAnswer(invocation -> {
+            release.await();
+            return 1;
+        });
+        dispatcher = new FanoutDispatcher(writer, mock(ObjectProvider.class), new SimpleMeterRegistry(), 1, 1, OFFER_TIMEOUT_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void failsTheBatchInsteadOfBlockingWhenALaneStaysFull() {
+        Set<StringRedisConnection.StringTuple> entries = Set.of(new DefaultStringTuple("1", 1000));
+        FanoutDispatcher.Batch batch = dispatcher.newBatch();
+        batch.add(1L, entries);
+        batch.add(2L, entries);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> batch.add(3L, entries)).isInstanceOf(RejectedExecutionException.class);
+        assertThat((System.nanoTime() - started) / 1_000_000).isBetween(OFFER_TIMEOUT_MS / 2, OFFER_TIMEOUT_MS * 20);
+    }
+
+    @Test
+    void acceptsWorkOnceTheLaneDrains() {
+        Set<StringRedisConnection.StringTuple> entries = Set.of(new DefaultStringTuple("1", 1000));
+        FanoutDispatcher.Batch batch = dispatcher.newBatch();
+        batch.add(1L, entries);
+        batch.add(2L, entries);
+        release.countDown();
+
+        batch.add(3L, entries);
+
+        assertThat(batch.await()).isEqualTo(3);
+    }
+}
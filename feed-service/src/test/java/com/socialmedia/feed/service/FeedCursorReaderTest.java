@@ -0,0 +1,112 @@
+package com.socialmedia.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+class FeedCursorReaderTest {
+
+    private static final String KEY = "feed:1";
+
+    private final List<ZSetOperations.TypedTuple<byte[]>> zset = new ArrayList<>();
+
+    @ParameterizedTest
+    @EnumSource(FeedMemberCodec.Encoding.class)
+    void pagesThroughPostsThatShareAScore(FeedMemberCodec.Encoding encoding) {
+        FeedMemberCodec codec = new FeedMemberCodec(encoding);
+        for (long postId = 1; postId <= 12; postId++) {
+            add(codec.encodings(String.valueOf(postId)), postId <= 4 ? 2000 : 1000);
+        }
+
+        assertThat(readAllPages(codec, 2)).hasSize(12).doesNotHaveDuplicates();
+        assertThat(readAllPages(codec, 5)).hasSize(12).doesNotHaveDuplicates();
+    }
+
+    @ParameterizedTest
+    @EnumSource(FeedMemberCodec.Encoding.class)
+    void returnsTiesInTheOrderRedisStoresThem(FeedMemberCodec.Encoding encoding) {
+        FeedMemberCodec codec = new FeedMemberCodec(encoding);
+        for (long postId : List.of(9L, 10L, 11L)) {
+            add(codec.encodings(String.valueOf(postId)), 1000);
+        }
+
+        List<String> firstPage = reader(codec).readBefore(List.of(KEY), null, 2).stream().map(ZSetOperations.TypedTuple::getValue).toList();
+
+        assertThat(readAllPages(codec, 2)).containsExactlyInAnyOrder("9", "10", "11");
+        assertThat(firstPage).containsExactlyElementsOf(encoding == FeedMemberCodec.Encoding.DECIMAL ? List.of("9", "11") : List.of("11", "10"));
+    }
+
+    @Test
+    void pagesThroughDecimalAndDualEntriesDuringMigration() {
+        FeedMemberCodec codec = new FeedMemberCodec(FeedMemberCodec.Encoding.DUAL);
+        for (long postId = 1; postId <= 6; postId++) {
+            add(new byte[][] {String.valueOf(postId).getBytes(StandardCharsets.US_ASCII)}, 1000);
+        }
+        for (long postId = 7; postId <= 12; postId++) {
+            add(codec.encodings(String.valueOf(postId)), 1000);
+        }
+
+        assertThat(readAllPages(codec, 3)).hasSize(12).doesNotHaveDuplicates();
+    }
+
+    private List<String> readAllPages(FeedMemberCodec codec, int limit) {
+        FeedCursorReader reader = reader(codec);
+        List<String> seen = new ArrayList<>();
+        FeedCursor cursor = null;
+        for (int page = 0; page < 100; page++) {
+            List<ZSetOperations.TypedTuple<String>> entries = reader.readBefore(List.of(KEY), cursor, limit);
+            entries.forEach(entry -> seen.add(entry.getValue()));
+            if (entries.size() < limit) {
+                return seen;
+            }
+            ZSetOperations.TypedTuple<String> last = entries.get(entries.size() - 1);
+            cursor = FeedCursor.parse(new FeedCursor(last.getScore().longValue(), last.getValue()).toString());
+        }
+        throw new AssertionError("Pagination did not terminate");
+    }
+
+    @SuppressWarnings("unchecked")
+    private FeedCursorReader reader(FeedMemberCodec codec) {
+        RedisTemplate<byte[], byte[]> template = mock(RedisTemplate.class);
+        ZSetOperations<byte[], byte[]> operations = mock(ZSetOperations.class);
+        when(template.opsForZSet()).thenReturn(operations);
+        when(operations.reverseRangeByScoreWithScores(any(byte[].class), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> reverseRangeByScore(invocation.getArgument(1), invocation.getArgument(2),
+                        invocation.getArgument(3), invocation.getArgument(4)));
+        return new FeedCursorReader(template, codec);
+    }
+
+    private Set<ZSetOperations.TypedTuple<byte[]>> reverseRangeByScore(double min, double max, long offset, long count) {
+        Comparator<ZSetOperations.TypedTuple<byte[]>> redisOrder = Comparator
+                .comparing((ZSetOperations.TypedTuple<byte[]> entry) -> entry.getScore())
+                .thenComparing(ZSetOperations.TypedTuple::getValue, Arrays::compareUnsigned);
+        return zset.stream()
+                .filter(entry -> entry.getScore() >= min && entry.getScore() <= max)
+                .sorted(redisOrder.reversed())
+                .skip(offset)
+                .limit(count)
+                .collect(LinkedHashSet::new, Set::add, Set::addAll);
+    }
+
+    private void add(byte[][] members, double score) {
+        for (byte[] member : members) {
+            zset.add(ZSetOperations.TypedTuple.of(member, score));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.socialmedia.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.socialmedia.feed.client.PostClient;
+import com.socialmedia.feed.client.UserClient;
+import com.socialmedia.feed.dto.FeedItemResponse;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class FeedHydratorTest {
+
+    private static final long DEADLINE_MS = 200;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    private PostClient postClient;
+    private UserClient userClient;
+    private FeedHydrator hydrator;
+
+    @BeforeEach
+    void setUp() {
+        postClient = mock(PostClient.class);
+        userClient = mock(UserClient.class);
+        hydrator = new FeedHydrator(postClient, userClient, mock(PostSummaryStore.class), executor);
+        ReflectionTestUtils.setField(hydrator, "pageDeadlineMs", DEADLINE_MS);
+        ReflectionTestUtils.setField(hydrator, "chunkSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void hydratesEveryChunkWithItsAuthors() {
+        when(postClient.fetchPosts(anyCollection())).thenAnswer(invocation -> posts(invocation.getArgument(0)));
+        when(userClient.fetchUsers(anySet())).thenAnswer(invocation -> Map.of(7L, "alice"));
+
+        List<FeedItemResponse> items = hydrator.hydrate(List.of("1", "2", "3"));
+
+        assertThat(items).extracting(FeedItemResponse::getPostId).containsExactly(1L, 2L, 3L);
+        assertThat(items).extracting(FeedItemResponse::getUsername).containsOnly("alice");
+        verify(postClient, times(2)).fetchPosts(anyCollection());
+    }
+
+    @Test
+    void leavesOutChunksThatMissThePageDeadline() {
+        when(postClient.fetchPosts(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            if (ids.contains(3L)) {
+                Thread.sleep(DEADLINE_MS * 10);
+            }
+            return posts(ids);
+        });
+        when(userClient.fetchUsers(anySet())).thenReturn(Map.of(7L, "alice"));
+
+        long started = System.nanoTime();
+        List<FeedItemResponse> items = hydrator.hydrate(List.of("1", "2", "3"));
+
+        assertThat(items).extracting(FeedItemResponse::getPostId).containsExactly(1L, 2L);
+        assertThat(elapsedMillis(started)).isLessThan(DEADLINE_MS * 5);
+    }
+
+    @Test
+    void returnsPostsWithoutUsernamesWhenAuthorsMissThePageDeadline() {
+        when(postClient.fetchPosts(anyCollection())).thenAnswer(invocation -> posts(invocation.getArgument(0)));
+        when(userClient.fetchUsers(anySet())).thenAnswer(invocation -> {
+            Thread.sleep(DEADLINE_MS * 10);
+            return Map.of(7L, "alice");
+        });
+
+        long started = System.nanoTime();
+        List<FeedItemResponse> items = hydrator.hydrate(List.of("1", "2"));
+
+        assertThat(items).extracting(FeedItemResponse::getPostId).containsExactly(1L, 2L);
+        assertThat(items).extracting(FeedItemResponse::getUsername).containsOnlyNulls();
+        assertThat(elapsedMillis(started)).isLessThan(DEADLINE_MS * 5);
+    }
+
+    private List<PostClient.PostResponse> posts(Collection<Long> ids) {
+        return ids.stream().map(id -> {
+            PostClient.PostResponse post = new PostClient.PostResponse();
+            post.setId(id);
+            post.setUserId(7L);
+            post.setCaption("caption " + id);
+            post.setMediaUrl("media/" + id);
+            return post;
+        }).toList();
+    }
+
+    private long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+}
@@ -0,0 +1,40 @@
+package com.socialmedia.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class FeedMemberCodecTest {
+
+    private final FeedMemberCodec binary = new FeedMemberCodec(FeedMemberCodec.Encoding.BINARY);
+
+    @Test
+    void roundTripsSnowflakeSizedIds() {
+        String member = String.valueOf(1L << 58);
+
+        assertThat(binary.decode(binary.encode(member))).isEqualTo(member);
+        assertThat(binary.decode(binary.encode(String.valueOf(FeedMemberCodec.MAX_BINARY_MEMBER))))
+                .isEqualTo(String.valueOf(FeedMemberCodec.MAX_BINARY_MEMBER));
+    }
+
+    @Test
+    void keepsEightDigitDecimalMembersDecimal() {
+        assertThat(binary.decode("12345678".getBytes(StandardCharsets.US_ASCII))).isEqualTo("12345678");
+    }
+
+    @Test
+    void rejectsIdsThatWouldDecodeAsDecimal() {
+        assertThatThrownBy(() -> binary.encode(String.valueOf(FeedMemberCodec.MAX_BINARY_MEMBER + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ordersMembersByTheirStoredBytes() {
+        FeedMemberCodec decimal = new FeedMemberCodec(FeedMemberCodec.Encoding.DECIMAL);
+
+        assertThat(decimal.compare("9", "10")).isPositive();
+        assertThat(binary.compare("9", "10")).isNegative();
+    }
+}
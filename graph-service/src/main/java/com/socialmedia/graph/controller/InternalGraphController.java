@@ -0,0 +1,34 @@
+package com.socialmedia.graph.controller;
+
+import com.socialmedia.graph.service.GraphService;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/internal/graph")
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+public class InternalGraphController {
+
+    private final GraphService graphService;
+
+    @GetMapping(value = "/{userId}/follower-ids", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> followerIds(@PathVariable @Min(1) Long userId, @RequestParam(defaultValue = "0") long after) {
+        log.info("Streaming follower ids for userId={} after={}", userId, after);
+        StreamingResponseBody body = outputStream -> graphService.streamFollowerIds(userId, after, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
+    }
+}
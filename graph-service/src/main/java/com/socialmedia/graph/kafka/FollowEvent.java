@@ -0,0 +1,20 @@
+package com.socialmedia.graph.kafka;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowEvent {
+
+    private FollowEventType type;
+
+    private Long followerId;
+
+    private Long followeeId;
+
+    private Instant occurredAt;
+}
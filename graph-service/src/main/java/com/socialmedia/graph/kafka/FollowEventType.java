@@ -0,0 +1,6 @@
+package com.socialmedia.graph.kafka;
+
+public enum FollowEventType {
+    FOLLOW,
+    UNFOLLOW
+}
@@ -0,0 +1,6 @@
+package com.socialmedia.graph.kafka;
+
+public interface GraphEventPublisher {
+
+    void publishFollowEvent(FollowEvent event);
+}
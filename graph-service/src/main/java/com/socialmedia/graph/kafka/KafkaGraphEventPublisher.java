@@ -0,0 +1,25 @@
+package com.socialmedia.graph.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaGraphEventPublisher implements GraphEventPublisher {
+
+    private final KafkaTemplate<String, FollowEvent> kafkaTemplate;
+
+    @Value("${kafka.topics.follow-events:follow_events}")
+    private String topic;
+
+    @Override
+    public void publishFollowEvent(FollowEvent event) {
+        log.debug("Publishing {} event to topic={} follower={} followee={}", event.getType(), topic,
+                event.getFollowerId(), event.getFolloweeId());
+        kafkaTemplate.send(topic, String.valueOf(event.getFollowerId()), event);
+    }
+}
@@ -38,6 +38,15 @@ public interface GraphRepository extends Neo4jRepository<UserNode, Long> {
             """)
     long countFollowers(Long userId);
 
+    @Query("""
+            MATCH (u:User {userId: $userId})<-[:FOLLOWS]-(f:User)
+            WHERE f.userId > $afterId
+            RETURN f.userId
+            ORDER BY f.userId
+            LIMIT $limit
+            """)
+    List<Long> findFollowerIdsAfter(Long userId, long afterId, int limit);
+
     @Query("""
             MATCH (u:User {userId: $userId})-[:FOLLOWS]->(f:User)
             RETURN f
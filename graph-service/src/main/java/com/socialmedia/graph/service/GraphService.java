@@ -3,20 +3,36 @@ package com.socialmedia.graph.service;
 import com.socialmedia.graph.dto.PagedResponse;
 import com.socialmedia.graph.dto.UserResponse;
 import com.socialmedia.graph.exception.BadRequestException;
+import com.socialmedia.graph.kafka.FollowEvent;
+import com.socialmedia.graph.kafka.FollowEventType;
+import com.socialmedia.graph.kafka.GraphEventPublisher;
 import com.socialmedia.graph.model.UserNode;
 import com.socialmedia.graph.repository.GraphRepository;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GraphService {
 
+    public static final long FOLLOWER_IDS_END_MARKER = -1L;
+
     private final GraphRepository repository;
+    private final GraphEventPublisher graphEventPublisher;
+
+    @Value("${graph.follower-ids.batch-size:5000}")
+    private int followerIdsBatchSize;
 
     @Transactional(transactionManager = "transactionManager")
     public void follow(Long currentUserId, Long targetUserId) {
@@ -28,6 +44,7 @@ public class GraphService {
         }
         log.info("User {} follows {}", currentUserId, targetUserId);
         repository.follow(currentUserId, targetUserId);
+        publishAfterCommit(new FollowEvent(FollowEventType.FOLLOW, currentUserId, targetUserId, Instant.now()));
     }
 
     @Transactional(transactionManager = "transactionManager")
@@ -37,6 +54,7 @@ public class GraphService {
         }
         log.info("User {} unfollows {}", currentUserId, targetUserId);
         repository.unfollow(currentUserId, targetUserId);
+        publishAfterCommit(new FollowEvent(FollowEventType.UNFOLLOW, currentUserId, targetUserId, Instant.now()));
     }
 
     @Transactional(readOnly = true, transactionManager = "transactionManager")
@@ -97,6 +115,45 @@ public class GraphService {
                 .build();
     }
 
+    public long streamFollowerIds(Long userId, long afterId, OutputStream outputStream) throws IOException {
+        if (userId == null) {
+            throw new BadRequestException("userId is required");
+        }
+        DataOutputStream out = new DataOutputStream(outputStream);
+        long cursor = afterId;
+        long written = 0L;
+        while (true) {
+            List<Long> batch = repository.findFollowerIdsAfter(userId, cursor, followerIdsBatchSize);
+            for (Long followerId : batch) {
+                out.writeLong(followerId);
+            }
+            out.flush();
+            written += batch.size();
+            if (batch.size() < followerIdsBatchSize) {
+                break;
+            }
+            cursor = batch.get(batch.size() - 1);
+        }
+        out.writeLong(FOLLOWER_IDS_END_MARKER);
+        out.writeLong(written);
+        out.flush();
+        log.debug("Streamed {} follower ids for userId={} after={}", written, userId, afterId);
+        return written;
+    }
+
+    private void publishAfterCommit(FollowEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            graphEventPublisher.publishFollowEvent(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                graphEventPublisher.publishFollowEvent(event);
+            }
+        });
+    }
+
     private UserResponse mapToResponse(UserNode node) {
         return UserResponse.builder()
                 .userId(node.getUserId())
@@ -0,0 +1,18 @@
+package com.socialmedia.post.config;
+
+import com.socialmedia.post.id.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${ids.worker-id:#{null}}") Long workerId) {
+        if (workerId == null) {
+            throw new IllegalStateException("ids.worker-id is not set, every instance needs its own Snowflake worker id (ID_WORKER_ID)");
+        }
+        return SnowflakeIdGenerator.forWorker(workerId);
+    }
+}
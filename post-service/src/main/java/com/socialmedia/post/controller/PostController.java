@@ -7,6 +7,7 @@ import com.socialmedia.post.dto.PostResponse;
 import com.socialmedia.post.service.PostService;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -49,6 +50,19 @@ public class PostController {
         return ResponseEntity.ok(body);
     }
 
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<List<PostResponse>>> getPosts(@RequestParam("ids") List<Long> ids) {
+        log.debug("Fetching posts in batch count={}", ids.size());
+        List<PostResponse> response = postService.getPosts(ids);
+        ApiResponse<List<PostResponse>> body = ApiResponse.<List<PostResponse>>builder()
+                .success(true)
+                .data(response)
+                .message("Posts fetched")
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.ok(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<PostResponse>> getPost(@PathVariable Long id) {
         log.debug("Fetching post id={}", id);
@@ -2,6 +2,7 @@ package com.socialmedia.post.entity;
 
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -9,7 +10,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "post_hashtag")
+@Table(name = "post_hashtag", indexes = @Index(name = "idx_post_hashtag_post_id", columnList = "post_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,6 +1,7 @@
 package com.socialmedia.post.exception;
 
 import com.socialmedia.post.dto.ErrorResponse;
+import com.socialmedia.post.storage.UploadCapacityExceededException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
@@ -68,4 +69,16 @@ public class PostGlobalExceptionHandler {
         log.warn("MaxUploadSizeExceededException at {}: {}", request.getRequestURI(), ex.getMessage());
         return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(body);
     }
+
+    @ExceptionHandler(UploadCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleUploadCapacity(UploadCapacityExceededException ex, HttpServletRequest request) {
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        log.warn("UploadCapacityExceededException at {}: {}", request.getRequestURI(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
 }
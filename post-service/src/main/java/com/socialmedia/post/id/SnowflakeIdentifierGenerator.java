@@ -0,0 +1,29 @@
+package com.socialmedia.post.id;
+
+import java.lang.reflect.Member;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String WORKER_ID_SETTING = "ids.worker-id";
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        Integer workerId = context.getServiceRegistry().requireService(ConfigurationService.class)
+                .getSetting(WORKER_ID_SETTING, StandardConverters.INTEGER);
+        if (workerId == null) {
+            throw new IllegalStateException(WORKER_ID_SETTING + " is not set, every instance needs its own Snowflake worker id (ID_WORKER_ID)");
+        }
+        this.generator = SnowflakeIdGenerator.forWorker(workerId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
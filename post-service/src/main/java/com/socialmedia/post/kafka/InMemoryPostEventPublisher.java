@@ -0,0 +1,41 @@
+package com.socialmedia.post.kafka;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "posts.events.mode", havingValue = "in-memory")
+@Slf4j
+public class InMemoryPostEventPublisher implements PostEventPublisher {
+
+    private final List<PostCreatedEvent> created = new CopyOnWriteArrayList<>();
+    private final List<PostDeletedEvent> deleted = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publishPostCreated(PostCreatedEvent event) {
+        created.add(event);
+        log.debug("Recorded PostCreatedEvent in memory for postId={}", event.getPostId());
+    }
+
+    @Override
+    public void publishPostDeleted(PostDeletedEvent event) {
+        deleted.add(event);
+        log.debug("Recorded PostDeletedEvent in memory for postId={}", event.getPostId());
+    }
+
+    public List<PostCreatedEvent> getCreated() {
+        return List.copyOf(created);
+    }
+
+    public List<PostDeletedEvent> getDeleted() {
+        return List.copyOf(deleted);
+    }
+
+    public void clear() {
+        created.clear();
+        deleted.clear();
+    }
+}
@@ -17,6 +17,8 @@ public class PostCreatedEvent {
 
     private String caption;
 
+    private String mediaUrl;
+
     private List<String> hashtags;
 
     private Instant createdAt;
@@ -0,0 +1,18 @@
+package com.socialmedia.post.kafka;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDeletedEvent {
+
+    private Long postId;
+
+    private Long userId;
+
+    private Instant deletedAt;
+}
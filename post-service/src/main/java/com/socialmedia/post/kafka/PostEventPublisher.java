@@ -3,5 +3,7 @@ package com.socialmedia.post.kafka;
 public interface PostEventPublisher {
 
     void publishPostCreated(PostCreatedEvent event);
+
+    void publishPostDeleted(PostDeletedEvent event);
 }
 
@@ -0,0 +1,20 @@
+package com.socialmedia.post.outbox;
+
+import com.socialmedia.post.kafka.PostCreatedEvent;
+import com.socialmedia.post.kafka.PostDeletedEvent;
+
+public enum OutboxEventType {
+
+    POST_CREATED(PostCreatedEvent.class),
+    POST_DELETED(PostDeletedEvent.class);
+
+    private final Class<?> payloadType;
+
+    OutboxEventType(Class<?> payloadType) {
+        this.payloadType = payloadType;
+    }
+
+    public Class<?> getPayloadType() {
+        return payloadType;
+    }
+}
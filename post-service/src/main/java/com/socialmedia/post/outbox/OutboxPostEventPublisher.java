@@ -0,0 +1,58 @@
+package com.socialmedia.post.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.socialmedia.post.entity.OutboxEvent;
+import com.socialmedia.post.kafka.PostCreatedEvent;
+import com.socialmedia.post.kafka.PostDeletedEvent;
+import com.socialmedia.post.kafka.PostEventPublisher;
+import com.socialmedia.post.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@ConditionalOnProperty(name = "posts.events.mode", havingValue = "outbox", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxPostEventPublisher implements PostEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${kafka.topics.post-created:post_created}")
+    private String topic;
+
+    @Value("${kafka.topics.post-deleted:post_deleted}")
+    private String deletedTopic;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishPostCreated(PostCreatedEvent event) {
+        append(topic, event.getPostId(), OutboxEventType.POST_CREATED, event);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishPostDeleted(PostDeletedEvent event) {
+        append(deletedTopic, event.getPostId(), OutboxEventType.POST_DELETED, event);
+    }
+
+    private void append(String topic, Long postId, OutboxEventType type, Object event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setTopic(topic);
+        outboxEvent.setMessageKey(String.valueOf(postId));
+        outboxEvent.setEventType(type);
+        try {
+            outboxEvent.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize " + type + " for postId=" + postId, ex);
+        }
+        outboxEventRepository.save(outboxEvent);
+        log.debug("Queued {} for postId={} in outbox for topic={}", type, postId, topic);
+    }
+}
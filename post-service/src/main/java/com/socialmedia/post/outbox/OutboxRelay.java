@@ -0,0 +1,191 @@
+package com.socialmedia.post.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.socialmedia.post.entity.OutboxEvent;
+import com.socialmedia.post.repository.OutboxEventRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name = "posts.events.mode", havingValue = "outbox", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${posts.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${posts.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${posts.outbox.claim-timeout-ms:60000}")
+    private long claimTimeoutMs;
+
+    @Value("${posts.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${posts.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, KafkaTemplate<String, Object> kafkaTemplate,
+                       ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${posts.outbox.poll-interval-ms:200}")
+    public void relay() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${posts.outbox.purge-interval-ms:600000}")
+    public void purge() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(retentionHours));
+        Integer purged = transactionTemplate.execute(status -> outboxEventRepository.purgeSentBefore(cutoff, batchSize * 10));
+        if (purged != null && purged > 0) {
+            log.debug("Purged {} sent outbox events older than {}", purged, cutoff);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            CompletableFuture<SendResult<String, Object>> send = send(event);
+            sends.add(send);
+            if (send.isCompletedExceptionally() && !isRecordError(send)) {
+                break;
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<Long> sent = new ArrayList<>(batch.size());
+        List<Long> rejected = new ArrayList<>();
+        List<Long> unsent = new ArrayList<>();
+        boolean brokerFailed = false;
+        for (int i = 0; i < sends.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            try {
+                sends.get(i).get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                sent.add(event.getId());
+            } catch (ExecutionException ex) {
+                if (isRecordError(ex.getCause())) {
+                    rejected.add(event.getId());
+                    reject(event, ex.getCause());
+                } else {
+                    if (!brokerFailed) {
+                        log.warn("Failed to relay outbox event id={} type={} to topic={}", event.getId(), event.getEventType(), event.getTopic(), ex.getCause());
+                    }
+                    unsent.add(event.getId());
+                    brokerFailed = true;
+                }
+            } catch (TimeoutException ex) {
+                if (!brokerFailed) {
+                    log.warn("Timed out relaying outbox event id={} to topic={} after {} ms", event.getId(), event.getTopic(), sendTimeoutMs);
+                }
+                unsent.add(event.getId());
+                brokerFailed = true;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                unsent.add(event.getId());
+                brokerFailed = true;
+            }
+        }
+        for (int i = sends.size(); i < batch.size(); i++) {
+            unsent.add(batch.get(i).getId());
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                outboxEventRepository.markSent(sent, Instant.now());
+            }
+            if (!rejected.isEmpty()) {
+                outboxEventRepository.recordFailedAttempt(rejected);
+            }
+            if (!unsent.isEmpty()) {
+                outboxEventRepository.release(unsent);
+            }
+        });
+        if (brokerFailed) {
+            log.warn("Relayed {} of {} outbox events, the rest will be retried", sent.size(), batch.size());
+            return 0;
+        }
+        log.debug("Relayed {} outbox events, {} rejected", sent.size(), rejected.size());
+        return batch.size();
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        Instant now = Instant.now();
+        List<OutboxEvent> batch = outboxEventRepository.lockClaimable(batchSize, maxAttempts, now);
+        if (!batch.isEmpty()) {
+            outboxEventRepository.claim(batch.stream().map(OutboxEvent::getId).toList(), now.plusMillis(claimTimeoutMs));
+        }
+        return batch;
+    }
+
+    private void reject(OutboxEvent event, Throwable cause) {
+        int attempts = event.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Parking outbox event id={} type={} after {} attempts, reset its attempts to relay it again",
+                    event.getId(), event.getEventType(), attempts, cause);
+        } else {
+            log.warn("Outbox event id={} type={} was rejected, attempt {} of {}", event.getId(), event.getEventType(), attempts, maxAttempts, cause);
+        }
+    }
+
+    private boolean isRecordError(CompletableFuture<?> send) {
+        try {
+            send.join();
+            return false;
+        } catch (CompletionException ex) {
+            return isRecordError(ex.getCause());
+        }
+    }
+
+    private boolean isRecordError(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonProcessingException || cause instanceof SerializationException || cause instanceof RecordTooLargeException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(OutboxEvent event) {
+        try {
+            Object payload = objectMapper.readValue(event.getPayload(), event.getEventType().getPayloadType());
+            return kafkaTemplate.send(event.getTopic(), event.getMessageKey(), payload);
+        } catch (JsonProcessingException | RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.socialmedia.post.repository;
+
+import com.socialmedia.post.entity.OutboxEvent;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(value = "select * from outbox_events e where e.sent_at is null and e.attempts < :maxAttempts"
+            + " and (e.claimed_until is null or e.claimed_until < :now)"
+            + " and not exists (select 1 from outbox_events p where p.message_key = e.message_key and p.sent_at is null"
+            + " and p.attempts < :maxAttempts and p.id < e.id)"
+            + " order by e.id limit :limit for update skip locked", nativeQuery = true)
+    List<OutboxEvent> lockClaimable(@Param("limit") int limit, @Param("maxAttempts") int maxAttempts, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.claimedUntil = :claimedUntil where e.id in :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") Instant claimedUntil);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.claimedUntil = null where e.id in :ids")
+    int release(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.sentAt = :sentAt where e.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") Instant sentAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.claimedUntil = null where e.id in :ids")
+    int recordFailedAttempt(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from outbox_events where sent_at < :cutoff limit :limit", nativeQuery = true)
+    int purgeSentBefore(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+}
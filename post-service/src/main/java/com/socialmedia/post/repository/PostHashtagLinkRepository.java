@@ -2,8 +2,30 @@ package com.socialmedia.post.repository;
 
 import com.socialmedia.post.entity.PostHashtag;
 import com.socialmedia.post.entity.PostHashtagLink;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostHashtagLinkRepository extends JpaRepository<PostHashtagLink, PostHashtag> {
-}
 
+    @Query("""
+            select l.id.postId as postId, h.tag as tag
+            from PostHashtagLink l join Hashtag h on h.id = l.id.hashtagId
+            where l.id.postId in :postIds
+            """)
+    List<PostTagView> findTagsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    @Query("""
+            select h.tag
+            from PostHashtagLink l join Hashtag h on h.id = l.id.hashtagId
+            where l.id.postId = :postId
+            """)
+    List<String> findTagsByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("delete from PostHashtagLink l where l.id.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
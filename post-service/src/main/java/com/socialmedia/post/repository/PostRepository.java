@@ -1,8 +1,12 @@
 package com.socialmedia.post.repository;
 
 import com.socialmedia.post.entity.Post;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    List<Post> findAllBy(Pageable pageable);
 }
 
@@ -0,0 +1,8 @@
+package com.socialmedia.post.repository;
+
+public interface PostTagView {
+
+    Long getPostId();
+
+    String getTag();
+}
@@ -0,0 +1,109 @@
+package com.socialmedia.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.socialmedia.post.id.SnowflakeIdGenerator;
+import java.text.Collator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class HashtagResolver {
+
+    private static final int MAX_TAG_LENGTH = 100;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+    private final Cache<String, Long> tagIds;
+
+    public HashtagResolver(NamedParameterJdbcTemplate jdbcTemplate, SnowflakeIdGenerator idGenerator,
+                           @Value("${posts.hashtags.cache.max-size:10000}") long maxSize,
+                           @Value("${posts.hashtags.cache.ttl-minutes:60}") long ttlMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idGenerator = idGenerator;
+        this.tagIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public Map<String, Long> resolve(Collection<String> tags) {
+        Map<String, Long> resolved = new LinkedHashMap<>();
+        if (tags.isEmpty()) {
+            return resolved;
+        }
+        for (String tag : tags) {
+            if (tag.length() > MAX_TAG_LENGTH) {
+                throw new IllegalArgumentException("Hashtag exceeds " + MAX_TAG_LENGTH + " characters");
+            }
+        }
+        Map<String, Long> cached = tagIds.getAllPresent(tags);
+        List<String> missing = tags.stream().filter(tag -> !cached.containsKey(tag)).toList();
+        Map<String, Long> found = new TreeMap<>(tagCollator());
+        found.putAll(cached);
+        if (!missing.isEmpty()) {
+            found.putAll(findIds(missing));
+        }
+        List<String> absent = missing.stream().filter(tag -> !found.containsKey(tag)).toList();
+        if (!absent.isEmpty()) {
+            found.putAll(insertMissing(absent));
+        }
+        for (String tag : tags) {
+            Long id = found.get(tag);
+            if (id == null) {
+                throw new IllegalStateException("Failed to resolve hashtag " + tag);
+            }
+            resolved.put(tag, id);
+        }
+        tagIds.putAll(resolved);
+        log.debug("Resolved {} hashtags, cached={}, created={}", resolved.size(), cached.size(), absent.size());
+        return resolved;
+    }
+
+    public void link(Long postId, Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] rows = hashtagIds.stream()
+                .distinct()
+                .map(hashtagId -> new MapSqlParameterSource().addValue("postId", postId).addValue("hashtagId", hashtagId))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("insert into post_hashtag (post_id, hashtag_id) values (:postId, :hashtagId)", rows);
+    }
+
+    private Map<String, Long> insertMissing(List<String> tags) {
+        SqlParameterSource[] rows = tags.stream()
+                .map(tag -> new MapSqlParameterSource().addValue("id", idGenerator.nextId()).addValue("tag", tag))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("insert ignore into hashtags (id, tag) values (:id, :tag)", rows);
+        return findIds(tags);
+    }
+
+    private Map<String, Long> findIds(List<String> tags) {
+        Map<String, Long> ids = new TreeMap<>(tagCollator());
+        jdbcTemplate.query("select id, tag from hashtags where tag in (:tags)", new MapSqlParameterSource("tags", new ArrayList<>(tags)),
+                rs -> {
+                    ids.putIfAbsent(rs.getString("tag"), rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    private static Collator tagCollator() {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+        return collator;
+    }
+}
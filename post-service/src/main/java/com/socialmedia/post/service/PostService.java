@@ -3,34 +3,36 @@ package com.socialmedia.post.service;
 import com.socialmedia.post.dto.CreatePostResponse;
 import com.socialmedia.post.dto.PagedResponse;
 import com.socialmedia.post.dto.PostResponse;
-import com.socialmedia.post.entity.Hashtag;
 import com.socialmedia.post.entity.Post;
-import com.socialmedia.post.entity.PostHashtag;
-import com.socialmedia.post.entity.PostHashtagLink;
 import com.socialmedia.post.kafka.PostCreatedEvent;
+import com.socialmedia.post.kafka.PostDeletedEvent;
 import com.socialmedia.post.kafka.PostEventPublisher;
 import com.socialmedia.post.rate.RateLimiterService;
-import com.socialmedia.post.repository.HashtagRepository;
 import com.socialmedia.post.repository.PostHashtagLinkRepository;
 import com.socialmedia.post.repository.PostRepository;
+import com.socialmedia.post.repository.PostTagView;
 import com.socialmedia.post.storage.MediaStorageService;
-import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -39,11 +41,12 @@ import org.springframework.web.multipart.MultipartFile;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final HashtagRepository hashtagRepository;
     private final PostHashtagLinkRepository postHashtagLinkRepository;
+    private final HashtagResolver hashtagResolver;
     private final MediaStorageService mediaStorageService;
     private final PostEventPublisher postEventPublisher;
     private final RateLimiterService rateLimiterService;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${media.max-size-mb:10}")
     private long maxFileSizeMb;
@@ -51,7 +54,9 @@ public class PostService {
     @Value("${media.allowed-content-types:image/jpeg,image/png,image/jpg}")
     private String allowedContentTypesProperty;
 
-    @Transactional
+    @Value("${posts.batch.max-size:100}")
+    private int maxBatchSize;
+
     public CreatePostResponse createPost(Long userId, String caption, String hashtagsCsv, MultipartFile file) {
         if (file == null || file.isEmpty()) {
             log.warn("Create post failed: missing file for userId={}", userId);
@@ -74,15 +79,27 @@ public class PostService {
             log.warn("Create post failed: unsupported content type={} for userId={}", contentType, userId);
             throw new IllegalArgumentException("Unsupported content type");
         }
+        Set<String> normalizedTags = new LinkedHashSet<>();
+        for (String tag : parseHashtags(hashtagsCsv)) {
+            String normalized = normalizeTag(tag);
+            if (!normalized.isEmpty()) {
+                normalizedTags.add(normalized);
+            }
+        }
+        Map<String, Long> hashtagIds = hashtagResolver.resolve(normalizedTags);
         log.debug("Storing media for userId={}, originalFilename={}", userId, file.getOriginalFilename());
         String filename = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-        String mediaUrl;
+        String mediaUrl = mediaStorageService.store(filename, file);
         try {
-            mediaUrl = mediaStorageService.store(filename, file.getInputStream());
-        } catch (IOException ex) {
-            log.error("Failed to store media file {}", filename, ex);
-            throw new IllegalStateException("Failed to store media file", ex);
+            return transactionTemplate.execute(status -> persistPost(userId, caption, mediaUrl, normalizedTags, hashtagIds));
+        } catch (RuntimeException ex) {
+            log.warn("Persisting post failed for userId={}, removing stored media file {}", userId, filename);
+            mediaStorageService.delete(filename);
+            throw ex;
         }
+    }
+
+    private CreatePostResponse persistPost(Long userId, String caption, String mediaUrl, Set<String> normalizedTags, Map<String, Long> hashtagIds) {
         Post post = new Post();
         post.setUserId(userId);
         post.setCaption(caption);
@@ -90,24 +107,9 @@ public class PostService {
         post.setCreatedAt(Instant.now());
         Post savedPost = postRepository.save(post);
         log.info("Post persisted id={} for userId={}", savedPost.getId(), savedPost.getUserId());
-        List<String> tags = parseHashtags(hashtagsCsv);
-        List<String> normalizedTags = new ArrayList<>();
-        for (String tag : tags) {
-            String normalized = normalizeTag(tag);
-            if (normalized.isEmpty()) {
-                continue;
-            }
-            Hashtag hashtag = hashtagRepository.findByTag(normalized).orElseGet(() -> {
-                        Hashtag h = new Hashtag();
-                        h.setTag(normalized);
-                        return hashtagRepository.save(h);
-                    });
-            normalizedTags.add(hashtag.getTag());
-            PostHashtagLink link = new PostHashtagLink(new PostHashtag(savedPost.getId(), hashtag.getId()));
-            postHashtagLinkRepository.save(link);
-        }
+        hashtagResolver.link(savedPost.getId(), hashtagIds.values());
 
-        PostCreatedEvent event = new PostCreatedEvent(savedPost.getId(), savedPost.getUserId(),savedPost.getCaption(),normalizedTags, savedPost.getCreatedAt());
+        PostCreatedEvent event = new PostCreatedEvent(savedPost.getId(), savedPost.getUserId(), savedPost.getCaption(), savedPost.getMediaUrl(), new ArrayList<>(normalizedTags), savedPost.getCreatedAt());
         postEventPublisher.publishPostCreated(event);
         log.debug("PostCreatedEvent published for postId={}", savedPost.getId());
         return new CreatePostResponse(savedPost.getId(), savedPost.getMediaUrl());
@@ -116,13 +118,39 @@ public class PostService {
     @Transactional(readOnly = true)
     public PostResponse getPost(Long id) {
         Post post = postRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("Post not found"));
-        List<PostHashtagLink> links = postHashtagLinkRepository.findAll().stream().filter(link -> link.getId().getPostId().equals(id)).collect(Collectors.toList());
-        List<Long> hashtagIds = links.stream().map(link -> link.getId().getHashtagId()).collect(Collectors.toList());
-        List<String> tags = hashtagRepository.findAllById(hashtagIds).stream().map(Hashtag::getTag).collect(Collectors.toList());
+        List<String> tags = postHashtagLinkRepository.findTagsByPostId(id);
         log.debug("Loaded post id={} with {} hashtags", id, tags.size());
         return new PostResponse(post.getId(), post.getUserId(), post.getCaption(), post.getMediaUrl(),post.getCreatedAt(), tags);
     }
 
+    @Transactional(readOnly = true)
+    public List<PostResponse> getPosts(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (distinctIds.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " post ids can be fetched at once");
+        }
+        Map<Long, Post> postsById = postRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        if (postsById.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> tagsByPostId = tagsByPostId(postsById.keySet());
+        List<PostResponse> responses = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Post post = postsById.get(id);
+            if (post == null) {
+                continue;
+            }
+            List<String> tags = tagsByPostId.getOrDefault(id, List.of());
+            responses.add(new PostResponse(post.getId(), post.getUserId(), post.getCaption(), post.getMediaUrl(), post.getCreatedAt(), tags));
+        }
+        log.debug("Loaded {} of {} requested posts in batch", responses.size(), distinctIds.size());
+        return responses;
+    }
+
     @Transactional
     public void deletePost(Long id) {
         Optional<Post> postOpt = postRepository.findById(id);
@@ -130,10 +158,10 @@ public class PostService {
             log.warn("Delete ignored, post id={} not found", id);
             return;
         }
-        List<PostHashtagLink> links = postHashtagLinkRepository.findAll().stream().filter(link -> link.getId().getPostId().equals(id)).collect(Collectors.toList());
-        postHashtagLinkRepository.deleteAll(links);
+        int links = postHashtagLinkRepository.deleteByPostId(id);
         postRepository.deleteById(id);
-        log.info("Deleted post id={} and {} hashtag links", id, links.size());
+        log.info("Deleted post id={} and {} hashtag links", id, links);
+        postEventPublisher.publishPostDeleted(new PostDeletedEvent(id, postOpt.get().getUserId(), Instant.now()));
     }
 
     @Transactional(readOnly = true)
@@ -146,46 +174,21 @@ public class PostService {
         int maxPage = totalPages == 0 ? 0 : totalPages - 1;
         int safePage = Math.min(requestedPage, Math.max(maxPage, 0));
 
-        Page<Post> pageResult = postRepository.findAll(PageRequest.of(safePage, safeSize));
-
-        List<Long> postIds = pageResult.getContent().stream()
-                .map(Post::getId)
-                .collect(Collectors.toList());
-
-        List<PostHashtagLink> allLinks = postHashtagLinkRepository.findAll().stream()
-                .filter(link -> postIds.contains(link.getId().getPostId()))
-                .collect(Collectors.toList());
-
-        List<Long> hashtagIds = allLinks.stream()
-                .map(link -> link.getId().getHashtagId())
-                .distinct()
-                .collect(Collectors.toList());
-
-        List<Hashtag> hashtags = hashtagRepository.findAllById(hashtagIds);
+        List<Post> posts = postRepository.findAllBy(PageRequest.of(safePage, safeSize));
+        Map<Long, List<String>> tagsByPostId = posts.isEmpty()
+                ? Map.of()
+                : tagsByPostId(posts.stream().map(Post::getId).collect(Collectors.toList()));
         log.debug("Listing posts page={}, size={}, totalElements={}", safePage, safeSize, total);
         return new PagedResponse<>(
-                pageResult.getContent().stream()
-                        .map(post -> {
-                            List<String> tagsForPost = allLinks.stream()
-                                    .filter(link -> link.getId().getPostId().equals(post.getId()))
-                                    .map(link -> link.getId().getHashtagId())
-                                    .map(id -> hashtags.stream()
-                                            .filter(h -> h.getId().equals(id))
-                                            .findFirst()
-                                            .map(Hashtag::getTag)
-                                            .orElse(null))
-                                    .filter(tag -> tag != null)
-                                    .collect(Collectors.toList());
-
-                            return new PostResponse(
-                                    post.getId(),
-                                    post.getUserId(),
-                                    post.getCaption(),
-                                    post.getMediaUrl(),
-                                    post.getCreatedAt(),
-                                    tagsForPost
-                            );
-                        })
+                posts.stream()
+                        .map(post -> new PostResponse(
+                                post.getId(),
+                                post.getUserId(),
+                                post.getCaption(),
+                                post.getMediaUrl(),
+                                post.getCreatedAt(),
+                                tagsByPostId.getOrDefault(post.getId(), List.of())
+                        ))
                         .collect(Collectors.toList()),
                 safePage,
                 safeSize,
@@ -194,6 +197,11 @@ public class PostService {
         );
     }
 
+    private Map<Long, List<String>> tagsByPostId(Collection<Long> postIds) {
+        return postHashtagLinkRepository.findTagsByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagView::getPostId, Collectors.mapping(PostTagView::getTag, Collectors.toList())));
+    }
+
     private List<String> parseHashtags(String csv) {
         if (csv == null || csv.isBlank()) {
             return List.of();
@@ -2,14 +2,18 @@ package com.socialmedia.post.storage;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @Service
@@ -17,6 +21,8 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 @Slf4j
 public class LocalMediaStorageService implements MediaStorageService {
 
+    private static final long TRANSFER_CHUNK_BYTES = 1024 * 1024;
+
     private final Path uploadDir;
 
     public LocalMediaStorageService(@Value("${media.upload-dir:uploads}") String uploadDir) {
@@ -33,13 +39,51 @@ public class LocalMediaStorageService implements MediaStorageService {
     public String store(String filename, InputStream content) {
         try {
             Path target = uploadDir.resolve(filename);
-            Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
-            String url = ServletUriComponentsBuilder.fromCurrentContextPath().path("/media/").path(filename).toUriString();
-            log.debug("Stored media file {} at {}", filename, target);
-            return url;
+            long size;
+            try (ReadableByteChannel source = Channels.newChannel(content);
+                 FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                size = copy(source, out);
+            }
+            log.debug("Stored media file {} ({} bytes) at {}", filename, size, target);
+            return mediaUrl(filename);
         } catch (IOException ex) {
             log.error("Could not store media file {}", filename, ex);
             throw new IllegalStateException("Could not store media file", ex);
         }
     }
+
+    @Override
+    public String store(String filename, MultipartFile file) {
+        try {
+            Path target = uploadDir.resolve(filename);
+            file.transferTo(target.toFile());
+            log.debug("Moved media file {} ({} bytes) to {}", filename, file.getSize(), target);
+            return mediaUrl(filename);
+        } catch (IOException ex) {
+            log.error("Could not store media file {}", filename, ex);
+            throw new IllegalStateException("Could not store media file", ex);
+        }
+    }
+
+    @Override
+    public void delete(String filename) {
+        try {
+            Files.deleteIfExists(uploadDir.resolve(filename));
+        } catch (IOException ex) {
+            log.warn("Could not delete media file {}", filename, ex);
+        }
+    }
+
+    private String mediaUrl(String filename) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath().path("/media/").path(filename).toUriString();
+    }
+
+    private long copy(ReadableByteChannel source, FileChannel out) throws IOException {
+        long copied = 0L;
+        long transferred;
+        while ((transferred = out.transferFrom(source, copied, TRANSFER_CHUNK_BYTES)) > 0) {
+            copied += transferred;
+        }
+        return copied;
+    }
 }
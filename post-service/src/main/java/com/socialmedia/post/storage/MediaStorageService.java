@@ -1,9 +1,20 @@
 package com.socialmedia.post.storage;
 
+import java.io.IOException;
 import java.io.InputStream;
+import org.springframework.web.multipart.MultipartFile;
 
 public interface MediaStorageService {
 
     String store(String filename, InputStream content);
-}
 
+    default String store(String filename, MultipartFile file) {
+        try (InputStream content = file.getInputStream()) {
+            return store(filename, content);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not read media file " + filename, ex);
+        }
+    }
+
+    void delete(String filename);
+}
@@ -1,58 +1,131 @@
 package com.socialmedia.post.storage;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 @Service
 @ConditionalOnProperty(prefix = "media.storage", name = "type", havingValue = "s3")
 @Slf4j
 public class S3MediaStorageService implements MediaStorageService {
 
+    private static final int MIN_PART_SIZE_MB = 5;
+
     private final S3Client s3Client;
+    private final UploadBufferPool bufferPool;
     private final String bucket;
     private final String region;
     private final String baseUrl;
     private final String folder;
 
-    public S3MediaStorageService(@Value("${media.s3.bucket}") String bucket, @Value("${media.s3.region}") String region, @Value("${media.s3.base-url:}") String baseUrl, @Value("${media.s3.folder:posts}") String folder) {
+    public S3MediaStorageService(@Value("${media.s3.bucket}") String bucket, @Value("${media.s3.region}") String region, @Value("${media.s3.base-url:}") String baseUrl, @Value("${media.s3.folder:posts}") String folder,
+                                 @Value("${media.s3.part-size-mb:5}") int partSizeMb,
+                                 @Value("${media.s3.buffer-pool.max-buffers:8}") int maxBuffers,
+                                 @Value("${media.s3.buffer-pool.acquire-timeout-ms:2000}") long acquireTimeoutMs) {
         this.bucket = bucket;
         this.region = region;
         this.baseUrl = baseUrl;
         this.folder = folder;
         this.s3Client = S3Client.builder().region(Region.of(region)).build();
+        this.bufferPool = new UploadBufferPool(Math.max(partSizeMb, MIN_PART_SIZE_MB) * 1024 * 1024, maxBuffers, acquireTimeoutMs);
     }
 
     @Override
     public String store(String filename, InputStream content) {
-        byte[] bytes;
+        String key = folder + "/" + filename;
+        byte[] buffer = bufferPool.acquire();
+        try {
+            int length = readPart(content, buffer, filename);
+            if (length < buffer.length) {
+                s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(), partBody(buffer, length));
+                log.debug("Stored media file {} ({} bytes) at s3://{}/{}", filename, length, bucket, key);
+            } else {
+                uploadMultipart(key, filename, content, buffer, length);
+            }
+        } finally {
+            bufferPool.release(buffer);
+        }
+        if (baseUrl != null && !baseUrl.isBlank()) {
+            return baseUrl + "/" + key;
+        }
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+    }
+
+    @Override
+    public void delete(String filename) {
+        String key = folder + "/" + filename;
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException ex) {
+            log.warn("Failed to delete media file s3://{}/{}", bucket, key, ex);
+        }
+    }
+
+    private void uploadMultipart(String key, String filename, InputStream content, byte[] buffer, int firstPartLength) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder().bucket(bucket).key(key).build()).uploadId();
+        List<CompletedPart> parts = new ArrayList<>();
+        long size = 0L;
+        try {
+            int length = firstPartLength;
+            while (length > 0) {
+                int partNumber = parts.size() + 1;
+                UploadPartRequest request = UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .build();
+                String eTag = s3Client.uploadPart(request, partBody(buffer, length)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                size += length;
+                length = readPart(content, buffer, filename);
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("Stored media file {} ({} bytes, {} parts) at s3://{}/{}", filename, size, parts.size(), bucket, key);
+        } catch (RuntimeException ex) {
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId).build());
+            } catch (SdkException abortEx) {
+                ex.addSuppressed(abortEx);
+            }
+            throw ex;
+        }
+    }
+
+    private int readPart(InputStream content, byte[] buffer, String filename) {
         try {
-            bytes = content.readAllBytes();
+            return content.readNBytes(buffer, 0, buffer.length);
         } catch (IOException ex) {
             log.error("Failed to read media content for {}", filename, ex);
             throw new IllegalStateException("Failed to read media content", ex);
         }
-        String key = folder + "/" + filename;
-        PutObjectRequest request = PutObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
-                .build();
-        s3Client.putObject(request, RequestBody.fromBytes(bytes));
-        String url;
-        if (baseUrl != null && !baseUrl.isBlank()) {
-            url = baseUrl + "/" + key;
-        } else {
-            url = "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
-        }
-        log.debug("Stored media file {} at s3://{}/{}", filename, bucket, key);
-        return url;
     }
-}
 
+    private RequestBody partBody(byte[] buffer, int length) {
+        return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length);
+    }
+}
@@ -0,0 +1,41 @@
+package com.socialmedia.post.storage;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class UploadBufferPool {
+
+    private final int bufferSize;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<byte[]> idle = new ConcurrentLinkedQueue<>();
+    private final long acquireTimeoutMs;
+
+    public UploadBufferPool(int bufferSize, int maxBuffers, long acquireTimeoutMs) {
+        this.bufferSize = bufferSize;
+        this.permits = new Semaphore(Math.max(maxBuffers, 1));
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public byte[] acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new UploadCapacityExceededException("Too many concurrent media uploads");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UploadCapacityExceededException("Interrupted while waiting for an upload buffer");
+        }
+        byte[] buffer = idle.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    public void release(byte[] buffer) {
+        idle.offer(buffer);
+        permits.release();
+    }
+}
@@ -0,0 +1,8 @@
+package com.socialmedia.post.storage;
+
+public class UploadCapacityExceededException extends RuntimeException {
+
+    public UploadCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,49 @@
+package com.socialmedia.post.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class InMemoryPostEventPublisherTest {
+
+    private final InMemoryPostEventPublisher publisher = new InMemoryPostEventPublisher();
+
+    @Test
+    void recordsPublishedEventsInOrder() {
+        PostCreatedEvent first = new PostCreatedEvent(1L, 7L, "first", "media/1", List.of("a"), Instant.now());
+        PostCreatedEvent second = new PostCreatedEvent(2L, 7L, "second", "media/2", List.of(), Instant.now());
+        PostDeletedEvent deleted = new PostDeletedEvent(1L, 7L, Instant.now());
+
+        publisher.publishPostCreated(first);
+        publisher.publishPostCreated(second);
+        publisher.publishPostDeleted(deleted);
+
+        assertThat(publisher.getCreated()).containsExactly(first, second);
+        assertThat(publisher.getDeleted()).containsExactly(deleted);
+    }
+
+    @Test
+    void returnsSnapshotsThatCannotBeModified() {
+        publisher.publishPostCreated(new PostCreatedEvent(1L, 7L, "caption", "media/1", List.of(), Instant.now()));
+
+        List<PostCreatedEvent> created = publisher.getCreated();
+        publisher.publishPostCreated(new PostCreatedEvent(2L, 7L, "caption", "media/2", List.of(), Instant.now()));
+
+        assertThat(created).hasSize(1);
+        assertThatThrownBy(() -> created.add(null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void clearDropsRecordedEvents() {
+        publisher.publishPostCreated(new PostCreatedEvent(1L, 7L, "caption", "media/1", List.of(), Instant.now()));
+        publisher.publishPostDeleted(new PostDeletedEvent(1L, 7L, Instant.now()));
+
+        publisher.clear();
+
+        assertThat(publisher.getCreated()).isEmpty();
+        assertThat(publisher.getDeleted()).isEmpty();
+    }
+}
@@ -0,0 +1,147 @@
+package com.socialmedia.post.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.socialmedia.post.entity.OutboxEvent;
+import com.socialmedia.post.kafka.PostCreatedEvent;
+import com.socialmedia.post.repository.OutboxEventRepository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OutboxEventRepository repository;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private PlatformTransactionManager transactionManager;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        relay = new OutboxRelay(repository, kafkaTemplate, objectMapper, transactionManager);
+        ReflectionTestUtils.setField(relay, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(relay, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(relay, "claimTimeoutMs", 60000L);
+    }
+
+    @Test
+    void claimsRowsAndCommitsBeforeSending() throws Exception {
+        when(repository.lockClaimable(eq(BATCH_SIZE), eq(MAX_ATTEMPTS), any(Instant.class))).thenReturn(List.of(event(1L, 0)));
+        when(kafkaTemplate.send(eq("post_created"), any(), any())).thenReturn(delivered());
+
+        relay.relay();
+
+        InOrder order = inOrder(repository, transactionManager, kafkaTemplate);
+        order.verify(repository).claim(eq(List.of(1L)), any(Instant.class));
+        order.verify(transactionManager).commit(any());
+        order.verify(kafkaTemplate).send(eq("post_created"), any(), any());
+        order.verify(repository).markSent(eq(List.of(1L)), any(Instant.class));
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void marksDeliveredEventsSent() throws Exception {
+        when(repository.lockClaimable(eq(BATCH_SIZE), eq(MAX_ATTEMPTS), any(Instant.class))).thenReturn(List.of(event(1L, 0), event(2L, 0)), List.of());
+        when(kafkaTemplate.send(eq("post_created"), any(), any())).thenReturn(delivered());
+
+        relay.relay();
+
+        verify(repository).markSent(eq(List.of(1L, 2L)), any(Instant.class));
+        verify(repository, never()).recordFailedAttempt(anyCollection());
+        verify(repository, times(2)).lockClaimable(eq(BATCH_SIZE), eq(MAX_ATTEMPTS), any(Instant.class));
+    }
+
+    @Test
+    void leavesEventsForRetryWhenTheBrokerFails() throws Exception {
+        when(repository.lockClaimable(eq(BATCH_SIZE), eq(MAX_ATTEMPTS), any(Instant.class))).thenReturn(List.of(event(1L, 0), event(2L, 0)));
+        when(kafkaTemplate.send(eq("post_created"), any(), any()))
+                .thenReturn(delivered())
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("broker unavailable")));
+
+        relay.relay();
+
+        verify(repository).markSent(eq(List.of(1L)), any(Instant.class));
+        verify(repository).release(List.of(2L));
+        verify(repository, never()).recordFailedAttempt(anyCollection());
+        verify(repository, times(1)).lockClaimable(anyInt(), anyInt(), any(Instant.class));
+    }
+
+    @Test
+    void countsAnAttemptForAnUnreadableEventAndKeepsRelaying() throws Exception {
+        OutboxEvent unreadable = event(1L, 0);
+        unreadable.setPayload("not json");
+        when(repository.lockClaimable(eq(BATCH_SIZE), eq(MAX_ATTEMPTS), any(Instant.class))).thenReturn(List.of(unreadable, event(2L, 0)), List.of());
+        when(kafkaTemplate.send(eq("post_created"), any(), any())).thenReturn(delivered());
+
+        relay.relay();
+
+        verify(repository).markSent(eq(List.of(2L)), any(Instant.class));
+        verify(repository).recordFailedAttempt(List.of(1L));
+        verify(repository, times(2)).lockClaimable(eq(BATCH_SIZE), eq(MAX_ATTEMPTS), any(Instant.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void parksAnEventOnItsLastAttempt() throws Exception {
+        OutboxEvent unreadable = event(1L, MAX_ATTEMPTS - 1);
+        unreadable.setPayload("not json");
+        when(repository.lockClaimable(eq(BATCH_SIZE), eq(MAX_ATTEMPTS), any(Instant.class))).thenReturn(List.of(unreadable));
+
+        relay.relay();
+
+        ArgumentCaptor<Collection<Long>> failed = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).recordFailedAttempt(failed.capture());
+        assertThat(failed.getValue()).containsExactly(1L);
+        verify(repository, never()).markSent(anyCollection(), any());
+        verify(kafkaTemplate, never()).send(any(String.class), any(), any());
+    }
+
+    private OutboxEvent event(Long id, int attempts) throws Exception {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setTopic("post_created");
+        event.setMessageKey(String.valueOf(id));
+        event.setEventType(OutboxEventType.POST_CREATED);
+        event.setPayload(objectMapper.writeValueAsString(new PostCreatedEvent(id, 7L, "caption", "media/" + id, List.of("tag"), Instant.now())));
+        event.setAttempts(attempts);
+        return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<SendResult<String, Object>> delivered() {
+        return CompletableFuture.completedFuture(mock(SendResult.class));
+    }
+}
@@ -0,0 +1,78 @@
+package com.socialmedia.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.socialmedia.post.id.SnowflakeIdGenerator;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+class HashtagResolverTest {
+
+    private final Map<String, Long> rows = new LinkedHashMap<>();
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private HashtagResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (Map.Entry<String, Long> row : new ArrayList<>(rows.entrySet())) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("tag")).thenReturn(row.getKey());
+                when(rs.getLong("id")).thenReturn(row.getValue());
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+        resolver = new HashtagResolver(jdbcTemplate, SnowflakeIdGenerator.forWorker(1), 100, 60);
+    }
+
+    @Test
+    void reusesAnExistingTagThatDiffersOnlyByAccentOrCase() {
+        rows.put("cafe", 42L);
+
+        Map<String, Long> resolved = resolver.resolve(List.of("café", "CAFE"));
+
+        assertThat(resolved).containsEntry("café", 42L).containsEntry("CAFE", 42L);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    void resolvesATagWhoseInsertWasIgnoredForACollationMatch() {
+        doAnswer(invocation -> {
+            rows.put("Café", 7L);
+            return new int[] {0};
+        }).when(jdbcTemplate).batchUpdate(eq("insert ignore into hashtags (id, tag) values (:id, :tag)"), any(SqlParameterSource[].class));
+
+        Map<String, Long> resolved = resolver.resolve(List.of("cafe"));
+
+        assertThat(resolved).containsExactly(Map.entry("cafe", 7L));
+    }
+
+    @Test
+    void linksEachHashtagOnceWhenTagsCollapseToTheSameRow() {
+        resolver.link(1L, List.of(42L, 42L));
+
+        verify(jdbcTemplate).batchUpdate(eq("insert into post_hashtag (post_id, hashtag_id) values (:postId, :hashtagId)"),
+                argThat((SqlParameterSource[] batch) -> batch.length == 1));
+    }
+}
@@ -0,0 +1,71 @@
+package com.socialmedia.post.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class LocalMediaStorageServiceTest {
+
+    private static final byte[] CONTENT = "jpeg bytes".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalMediaStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        storage = new LocalMediaStorageService(uploadDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void transfersAMultipartFileWithoutReadingItsStream() throws Exception {
+        MockMultipartFile file = spy(new MockMultipartFile("file", "photo.jpg", "image/jpeg", CONTENT));
+
+        String url = storage.store("1_photo.jpg", file);
+
+        verify(file).transferTo(any(File.class));
+        verify(file, never()).getInputStream();
+        assertThat(Files.readAllBytes(uploadDir.resolve("1_photo.jpg"))).isEqualTo(CONTENT);
+        assertThat(url).endsWith("/media/1_photo.jpg");
+    }
+
+    @Test
+    void copiesAPlainStream() throws Exception {
+        String url = storage.store("2_photo.jpg", new ByteArrayInputStream(CONTENT));
+
+        assertThat(Files.readAllBytes(uploadDir.resolve("2_photo.jpg"))).isEqualTo(CONTENT);
+        assertThat(url).endsWith("/media/2_photo.jpg");
+    }
+
+    @Test
+    void deletesAStoredFile() throws Exception {
+        storage.store("3_photo.jpg", new ByteArrayInputStream(CONTENT));
+
+        storage.delete("3_photo.jpg");
+
+        assertThat(uploadDir.resolve("3_photo.jpg")).doesNotExist();
+    }
+}
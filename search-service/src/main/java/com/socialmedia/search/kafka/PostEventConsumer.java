@@ -25,5 +25,13 @@ public class PostEventConsumer {
                 )
         );
     }
-}
 
+    @KafkaListener(topics = "post_deleted", groupId = "search-service-group",
+            properties = "spring.json.value.default.type=com.socialmedia.search.kafka.PostDeletedEvent")
+    public void consumeDeleted(PostDeletedEvent event) {
+        log.info("Search-service received PostDeletedEvent for postId={}", event.getPostId());
+        if (event.getPostId() != null) {
+            postSearchService.deletePost(event.getPostId());
+        }
+    }
+}
@@ -26,6 +26,10 @@ public class PostSearchService {
         repository.save(doc);
     }
 
+    public void deletePost(Long postId) {
+        repository.deleteById(postId);
+    }
+
     public Page<PostDocument> searchByText(String query, int page, int size) {
         String q = query == null ? "" : query.toLowerCase(Locale.ROOT);
         int safeSize = Math.min(Math.max(size, 1), 100);
@@ -6,10 +6,13 @@ import com.socialmedia.user.dto.ApiResponse;
 import com.socialmedia.user.dto.RegisterUserRequest;
 import com.socialmedia.user.dto.RegisterUserResponse;
 import com.socialmedia.user.dto.UpdateBioRequest;
+import com.socialmedia.user.dto.UserBatchRequest;
 import com.socialmedia.user.dto.UserProfileResponse;
+import com.socialmedia.user.dto.UserSummaryResponse;
 import com.socialmedia.user.service.UserService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -71,6 +74,19 @@ public class UserController {
         return ResponseEntity.ok(apiResponse);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<UserSummaryResponse>>> getSummaries(@Valid @RequestBody UserBatchRequest request) {
+        log.info("Fetching user summaries count={}", request.getIds().size());
+        List<UserSummaryResponse> response = userService.getSummaries(request.getIds());
+        ApiResponse<List<UserSummaryResponse>> apiResponse = ApiResponse.<List<UserSummaryResponse>>builder()
+                .success(true)
+                .data(response)
+                .message("User summaries fetched")
+                .timestamp(java.time.LocalDateTime.now())
+                .build();
+        return ResponseEntity.ok(apiResponse);
+    }
+
     @PutMapping("/{id}/bio")
     public ResponseEntity<ApiResponse<UserProfileResponse>> updateBio(@PathVariable @Min(1) Long id, @Valid @RequestBody UpdateBioRequest request) {
         log.info("Updating bio for userId={}", id);
@@ -0,0 +1,18 @@
+package com.socialmedia.user.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    private Set<Long> ids;
+}
@@ -0,0 +1,54 @@
+package com.socialmedia.user.id;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = 1704067200000L;
+    public static final int WORKER_ID_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final Map<Long, SnowflakeIdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private final long workerId;
+    private final AtomicLong state = new AtomicLong();
+
+    private SnowflakeIdGenerator(long workerId) {
+        this.workerId = workerId;
+    }
+
+    public static SnowflakeIdGenerator forWorker(long workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("Worker id must be between 0 and " + MAX_WORKER_ID + " but was " + workerId);
+        }
+        return GENERATORS.computeIfAbsent(workerId, SnowflakeIdGenerator::new);
+    }
+
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastMillis = current >>> SEQUENCE_BITS;
+            long now = System.currentTimeMillis() - EPOCH_MILLIS;
+            long next;
+            if (now > lastMillis) {
+                next = now << SEQUENCE_BITS;
+            } else if ((current & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = current + 1;
+            } else {
+                next = (lastMillis + 1) << SEQUENCE_BITS;
+            }
+            if (state.compareAndSet(current, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return (millis << (WORKER_ID_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+}
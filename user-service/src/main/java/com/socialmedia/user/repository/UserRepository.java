@@ -1,8 +1,13 @@
 package com.socialmedia.user.repository;
 
+import com.socialmedia.user.dto.UserSummaryResponse;
 import com.socialmedia.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,5 +15,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String username);
-}
 
+    @Query("select new com.socialmedia.user.dto.UserSummaryResponse(u.id, u.username) from User u where u.id in :ids")
+    List<UserSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -5,10 +5,13 @@ import com.socialmedia.user.dto.LoginResponse;
 import com.socialmedia.user.dto.RegisterUserRequest;
 import com.socialmedia.user.dto.RegisterUserResponse;
 import com.socialmedia.user.dto.UserProfileResponse;
+import com.socialmedia.user.dto.UserSummaryResponse;
 import com.socialmedia.user.dto.UpdateBioRequest;
 import com.socialmedia.user.entity.User;
 import com.socialmedia.user.repository.UserRepository;
 import com.socialmedia.user.security.JwtService;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -80,6 +83,16 @@ public class UserService {
         return response;
     }
 
+    @Transactional(readOnly = true)
+    public List<UserSummaryResponse> getSummaries(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<UserSummaryResponse> summaries = userRepository.findSummariesByIdIn(ids);
+        log.debug("User summaries fetched requested={}, found={}", ids.size(), summaries.size());
+        return summaries;
+    }
+
     @Transactional
     public UserProfileResponse updateBio(Long id, UpdateBioRequest request) {
         User user = userRepository.findById(id).orElseThrow(() -> {